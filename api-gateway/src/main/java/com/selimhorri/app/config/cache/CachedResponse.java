@@ -0,0 +1,29 @@
+package com.selimhorri.app.config.cache;
+
+import java.net.URI;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CachedResponse {
+	
+	private final HttpStatus status;
+	private final HttpHeaders headers;
+	private final byte[] body;
+	private final URI upstreamUri;
+	private final HttpHeaders keyHeaders;
+	private final long storedAt;
+	private final long freshUntil;
+	private final long staleUntil;
+	private final AtomicBoolean revalidating = new AtomicBoolean();
+	
+}
+
+
+
@@ -0,0 +1,71 @@
+package com.selimhorri.app.config.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class ResponseCacheConfig {
+	
+	private static final int ENTRY_OVERHEAD_BYTES = 512;
+	
+	@Bean
+	public Cache<String, CachedResponse> responseCacheBean(final ResponseCacheProperties responseCacheProperties, 
+			final MeterRegistry meterRegistry) {
+		final Cache<String, CachedResponse> cache = Caffeine.newBuilder()
+				.maximumWeight(responseCacheProperties.getMaximumSize().toBytes())
+				.weigher((String key, CachedResponse value) -> key.length() + value.getBody().length + ENTRY_OVERHEAD_BYTES)
+				.expireAfter(new ExpireWhenStale())
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "gatewayResponses");
+		Gauge.builder("gateway.response.cache.size", cache, c -> c.policy().eviction()
+						.map(eviction -> eviction.weightedSize().orElse(0L))
+						.orElse(0L))
+				.baseUnit("bytes")
+				.register(meterRegistry);
+		return cache;
+	}
+	
+	@LoadBalanced
+	@Bean
+	public WebClient.Builder loadBalancedWebClientBuilderBean() {
+		return WebClient.builder();
+	}
+	
+	private static final class ExpireWhenStale implements Expiry<String, CachedResponse> {
+		
+		@Override
+		public long expireAfterCreate(final String key, final CachedResponse value, final long currentTime) {
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, value.getStaleUntil() - System.currentTimeMillis()));
+		}
+		
+		@Override
+		public long expireAfterUpdate(final String key, final CachedResponse value, final long currentTime, final long currentDuration) {
+			return this.expireAfterCreate(key, value, currentTime);
+		}
+		
+		@Override
+		public long expireAfterRead(final String key, final CachedResponse value, final long currentTime, final long currentDuration) {
+			return currentDuration;
+		}
+		
+	}
+	
+}
+
+
+
@@ -0,0 +1,21 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.response-cache")
+public class ResponseCacheProperties {
+	
+	private DataSize maximumSize = DataSize.ofMegabytes(64);
+	private DataSize maximumEntrySize = DataSize.ofMegabytes(1);
+	private Duration revalidateTimeout = Duration.ofSeconds(5);
+	
+}
+
+
+
@@ -0,0 +1,110 @@
+package com.selimhorri.app.config.filter;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.util.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
+	
+	public static final String USERNAME_HEADER = "X-Auth-Username";
+	public static final String ROLE_HEADER = "X-Auth-Role";
+	private static final String BEARER_PREFIX = "Bearer ";
+	private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+	
+	private final JwtUtil jwtUtil;
+	private final JwtProperties jwtProperties;
+	private final MeterRegistry meterRegistry;
+	
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE + 100;
+	}
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		
+		final var request = exchange.getRequest();
+		final var authorizationHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		final var publicPath = this.isPublic(request.getMethod(), request.getPath().value());
+		
+		if (authorizationHeader == null || !authorizationHeader.startsWith(BEARER_PREFIX)) {
+			if (!publicPath)
+				return this.reject(exchange, "missing");
+			this.count("anonymous");
+			return chain.filter(exchange.mutate()
+					.request(builder -> builder.headers(headers -> {
+						headers.remove(USERNAME_HEADER);
+						headers.remove(ROLE_HEADER);
+					}))
+					.build());
+		}
+		
+		final Claims claims;
+		try {
+			claims = this.jwtUtil.verify(authorizationHeader.substring(BEARER_PREFIX.length()));
+		}
+		catch (JwtException | IllegalArgumentException e) {
+			log.debug("**JwtAuthenticationFilter, rejected token: {}*", e.getMessage());
+			return this.reject(exchange, "invalid");
+		}
+		
+		this.count("authenticated");
+		return chain.filter(exchange.mutate()
+				.request(builder -> builder.headers(headers -> {
+					headers.set(USERNAME_HEADER, claims.getSubject());
+					Optional.ofNullable(claims.get("role", String.class))
+							.ifPresentOrElse(role -> headers.set(ROLE_HEADER, role), () -> headers.remove(ROLE_HEADER));
+				}))
+				.build());
+	}
+	
+	private boolean isPublic(final HttpMethod method, final String path) {
+		if (method == HttpMethod.OPTIONS || matchesAny(this.jwtProperties.getPublicPaths(), path))
+			return true;
+		return (method == HttpMethod.GET || method == HttpMethod.HEAD) 
+				&& matchesAny(this.jwtProperties.getPublicReadPaths(), path);
+	}
+	
+	private static boolean matchesAny(final List<String> patterns, final String path) {
+		return patterns.stream()
+				.anyMatch(pattern -> PATH_MATCHER.match(pattern, path));
+	}
+	
+	private Mono<Void> reject(final ServerWebExchange exchange, final String result) {
+		this.count(result);
+		final var response = exchange.getResponse();
+		response.setStatusCode(HttpStatus.UNAUTHORIZED);
+		response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE, "Bearer");
+		return response.setComplete();
+	}
+	
+	private void count(final String result) {
+		this.meterRegistry.counter("gateway.jwt.requests", "result", result).increment();
+	}
+	
+}
+
+
+
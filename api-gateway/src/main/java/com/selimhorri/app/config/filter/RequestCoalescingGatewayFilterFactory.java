@@ -0,0 +1,208 @@
+package com.selimhorri.app.config.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+@Component
+public class RequestCoalescingGatewayFilterFactory extends AbstractGatewayFilterFactory<RequestCoalescingGatewayFilterFactory.Config> {
+	
+	public static final String COALESCED_HEADER = "X-Coalesced";
+	public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+	private static final List<String> UNSHARED_HEADERS = List.of(HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING, 
+			HttpHeaders.CONNECTION);
+	
+	private final Map<String, Sinks.One<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+	private final MeterRegistry meterRegistry;
+	
+	public RequestCoalescingGatewayFilterFactory(final MeterRegistry meterRegistry) {
+		super(Config.class);
+		this.meterRegistry = meterRegistry;
+	}
+	
+	@Override
+	public GatewayFilter apply(final Config config) {
+		return new OrderedGatewayFilter((exchange, chain) -> {
+			
+			final var request = exchange.getRequest();
+			if (request.getMethod() != HttpMethod.GET && request.getMethod() != HttpMethod.HEAD)
+				return chain.filter(exchange);
+			
+			final var routeId = Optional.ofNullable((Route) exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR))
+					.map(Route::getId)
+					.orElse("unknown");
+			final var key = key(routeId, request, config);
+			final Sinks.One<SharedResponse> flight = Sinks.one();
+			final var existing = this.inFlight.putIfAbsent(key, flight);
+			
+			if (existing != null) {
+				this.count(routeId, "follower");
+				return existing.asMono()
+						.timeout(config.getMaxWait())
+						.onErrorResume(TimeoutException.class, e -> Mono.empty())
+						.map(Optional::of)
+						.defaultIfEmpty(Optional.empty())
+						.flatMap(shared -> shared
+								.map(response -> write(exchange, response))
+								.orElseGet(() -> {
+									this.count(routeId, "fallback");
+									return chain.filter(exchange);
+								}));
+			}
+			
+			this.count(routeId, "leader");
+			return chain.filter(exchange.mutate()
+							.response(new SharingResponseDecorator(exchange, key, flight, config))
+							.build())
+					.doFinally(signal -> this.complete(key, flight, null));
+			
+		}, ORDER);
+	}
+	
+	private static String key(final String routeId, final ServerHttpRequest request, final Config config) {
+		final var key = new StringBuilder(routeId).append(' ')
+				.append(request.getMethodValue()).append(' ')
+				.append(request.getURI().getRawPath());
+		Optional.ofNullable(request.getURI().getRawQuery()).ifPresent(query -> key.append('?').append(query));
+		config.getKeyHeaders().forEach(header -> key.append('\n')
+				.append(header.toLowerCase(Locale.ROOT))
+				.append(':')
+				.append(String.join(",", request.getHeaders().getOrEmpty(header))));
+		return key.toString();
+	}
+	
+	private void complete(final String key, final Sinks.One<SharedResponse> flight, final SharedResponse shared) {
+		this.inFlight.remove(key, flight);
+		if (shared != null)
+			flight.tryEmitValue(shared);
+		else
+			flight.tryEmitEmpty();
+	}
+	
+	private static Mono<Void> write(final ServerWebExchange exchange, final SharedResponse shared) {
+		final var response = exchange.getResponse();
+		response.setStatusCode(shared.getStatus());
+		response.getHeaders().putAll(shared.getHeaders());
+		response.getHeaders().set(COALESCED_HEADER, "true");
+		return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(shared.getBody())));
+	}
+	
+	private void count(final String routeId, final String role) {
+		this.meterRegistry.counter("gateway.coalescing.requests", "route", routeId, "role", role).increment();
+	}
+	
+	private final class SharingResponseDecorator extends ServerHttpResponseDecorator {
+		
+		private final String key;
+		private final Sinks.One<SharedResponse> flight;
+		private final Config config;
+		
+		private SharingResponseDecorator(final ServerWebExchange exchange, final String key, 
+				final Sinks.One<SharedResponse> flight, final Config config) {
+			super(exchange.getResponse());
+			this.key = key;
+			this.flight = flight;
+			this.config = config;
+		}
+		
+		@Override
+		public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+			
+			final long maxBodySize = this.config.getMaxBodySize().toBytes();
+			if (this.getHeaders().getContentLength() > maxBodySize || this.getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+				complete(this.key, this.flight, null);
+				return super.writeWith(body);
+			}
+			
+			final var copy = new ByteArrayOutputStream();
+			final var overflowed = new AtomicBoolean();
+			return super.writeWith(Flux.from(body)
+					.doOnNext(buffer -> {
+						if (overflowed.get())
+							return;
+						if (copy.size() + buffer.readableByteCount() > maxBodySize) {
+							overflowed.set(true);
+							copy.reset();
+							complete(this.key, this.flight, null);
+							return;
+						}
+						final int readPosition = buffer.readPosition();
+						final byte[] bytes = new byte[buffer.readableByteCount()];
+						buffer.read(bytes);
+						buffer.readPosition(readPosition);
+						copy.writeBytes(bytes);
+					})
+					.doOnComplete(() -> {
+						if (!overflowed.get())
+							complete(this.key, this.flight, this.share(copy.toByteArray()));
+					}));
+		}
+		
+		private SharedResponse share(final byte[] body) {
+			final var headers = new HttpHeaders();
+			this.getHeaders().forEach((name, values) -> {
+				if (UNSHARED_HEADERS.stream().noneMatch(name::equalsIgnoreCase) 
+						&& !name.regionMatches(true, 0, "Access-Control-", 0, "Access-Control-".length()))
+					headers.put(name, List.copyOf(values));
+			});
+			return new SharedResponse(Optional.ofNullable(this.getStatusCode()).orElse(HttpStatus.OK), 
+					HttpHeaders.readOnlyHttpHeaders(headers), body);
+		}
+		
+	}
+	
+	@Getter
+	@AllArgsConstructor
+	private static final class SharedResponse {
+		
+		private final HttpStatus status;
+		private final HttpHeaders headers;
+		private final byte[] body;
+		
+	}
+	
+	@Data
+	public static class Config {
+		
+		private DataSize maxBodySize = DataSize.ofKilobytes(256);
+		private Duration maxWait = Duration.ofSeconds(2);
+		private List<String> keyHeaders = new ArrayList<>(List.of(HttpHeaders.ACCEPT, HttpHeaders.AUTHORIZATION));
+		
+	}
+	
+}
+
+
+
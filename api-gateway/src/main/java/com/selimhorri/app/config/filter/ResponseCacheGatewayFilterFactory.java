@@ -0,0 +1,306 @@
+package com.selimhorri.app.config.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.selimhorri.app.config.cache.CachedResponse;
+import com.selimhorri.app.config.cache.ResponseCacheProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Component
+@Slf4j
+public class ResponseCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<ResponseCacheGatewayFilterFactory.Config> {
+	
+	public static final String CACHE_STATUS_HEADER = "X-Cache";
+	public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 2;
+	private static final Set<HttpMethod> INVALIDATING_METHODS = EnumSet.of(HttpMethod.POST, HttpMethod.PUT, 
+			HttpMethod.PATCH, HttpMethod.DELETE);
+	private static final List<String> UNCACHED_HEADERS = List.of(HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING, 
+			HttpHeaders.CONNECTION, HttpHeaders.SET_COOKIE, HttpHeaders.AGE, CACHE_STATUS_HEADER);
+	
+	private final Cache<String, CachedResponse> responseCache;
+	private final ResponseCacheProperties responseCacheProperties;
+	private final WebClient webClient;
+	private final MeterRegistry meterRegistry;
+	
+	public ResponseCacheGatewayFilterFactory(final Cache<String, CachedResponse> responseCache, 
+			final ResponseCacheProperties responseCacheProperties, 
+			@LoadBalanced final WebClient.Builder webClientBuilder, 
+			final MeterRegistry meterRegistry) {
+		super(Config.class);
+		this.responseCache = responseCache;
+		this.responseCacheProperties = responseCacheProperties;
+		this.webClient = webClientBuilder.build();
+		this.meterRegistry = meterRegistry;
+	}
+	
+	@Override
+	public GatewayFilter apply(final Config config) {
+		return new OrderedGatewayFilter((exchange, chain) -> {
+			
+			final var request = exchange.getRequest();
+			final var routeId = Optional.ofNullable((Route) exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR))
+					.map(Route::getId)
+					.orElse("unknown");
+			
+			if (INVALIDATING_METHODS.contains(request.getMethod())) {
+				return chain.filter(exchange)
+						.then(Mono.fromRunnable(() -> {
+							final var status = exchange.getResponse().getStatusCode();
+							if (status != null && status.is2xxSuccessful())
+								this.invalidate(routeId);
+						}));
+			}
+			
+			if (request.getMethod() != HttpMethod.GET)
+				return chain.filter(exchange);
+			
+			if (hasDirective(request.getHeaders(), "no-cache") || hasDirective(request.getHeaders(), "no-store")) {
+				this.count(routeId, "bypass");
+				return chain.filter(exchange);
+			}
+			
+			final var key = key(routeId, request, config);
+			final var cached = this.responseCache.getIfPresent(key);
+			final long now = System.currentTimeMillis();
+			
+			if (cached != null && now < cached.getFreshUntil()) {
+				this.count(routeId, "hit");
+				return write(exchange, cached, "HIT", now);
+			}
+			
+			if (cached != null && now < cached.getStaleUntil()) {
+				this.count(routeId, "stale");
+				this.revalidate(key, cached, config);
+				return write(exchange, cached, "STALE", now);
+			}
+			
+			this.count(routeId, "miss");
+			return chain.filter(exchange.mutate()
+					.response(new CachingResponseDecorator(exchange, key, config))
+					.build());
+			
+		}, ORDER);
+	}
+	
+	private static String key(final String routeId, final ServerHttpRequest request, final Config config) {
+		final var key = new StringBuilder(routeId).append(' ').append(request.getURI().getRawPath());
+		Optional.ofNullable(request.getURI().getRawQuery()).ifPresent(query -> key.append('?').append(query));
+		config.getKeyHeaders().forEach(header -> key.append('\n')
+				.append(header.toLowerCase(Locale.ROOT))
+				.append(':')
+				.append(String.join(",", request.getHeaders().getOrEmpty(header))));
+		return key.toString();
+	}
+	
+	private static Mono<Void> write(final ServerWebExchange exchange, final CachedResponse cached, 
+			final String cacheStatus, final long now) {
+		final var response = exchange.getResponse();
+		response.setStatusCode(cached.getStatus());
+		response.getHeaders().putAll(cached.getHeaders());
+		response.getHeaders().set(HttpHeaders.AGE, String.valueOf(TimeUnit.MILLISECONDS.toSeconds(now - cached.getStoredAt())));
+		response.getHeaders().set(CACHE_STATUS_HEADER, cacheStatus);
+		return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.getBody())));
+	}
+	
+	private boolean isStorable(final HttpStatus status, final HttpHeaders responseHeaders) {
+		if (status != HttpStatus.OK 
+				|| responseHeaders.containsKey(HttpHeaders.SET_COOKIE) 
+				|| responseHeaders.getContentLength() > this.responseCacheProperties.getMaximumEntrySize().toBytes())
+			return false;
+		final var cacheControl = String.join(",", responseHeaders.getOrEmpty(HttpHeaders.CACHE_CONTROL)).toLowerCase(Locale.ROOT);
+		return !cacheControl.contains("no-store") && !cacheControl.contains("no-cache") && !cacheControl.contains("private");
+	}
+	
+	private void store(final String key, final HttpStatus status, final HttpHeaders responseHeaders, final byte[] body, 
+			final URI upstreamUri, final HttpHeaders requestHeaders, final Config config) {
+		
+		if (!this.isStorable(status, responseHeaders) 
+				|| body.length > this.responseCacheProperties.getMaximumEntrySize().toBytes())
+			return;
+		
+		final var cacheControl = String.join(",", responseHeaders.getOrEmpty(HttpHeaders.CACHE_CONTROL)).toLowerCase(Locale.ROOT);
+		final long ttl = directiveSeconds(cacheControl, "s-maxage")
+				.or(() -> directiveSeconds(cacheControl, "max-age"))
+				.map(TimeUnit.SECONDS::toMillis)
+				.orElse(config.getTtl().toMillis());
+		final long staleWhileRevalidate = directiveSeconds(cacheControl, "stale-while-revalidate")
+				.map(TimeUnit.SECONDS::toMillis)
+				.orElse(config.getStaleWhileRevalidate().toMillis());
+		if (ttl <= 0L && staleWhileRevalidate <= 0L)
+			return;
+		
+		final var headers = new HttpHeaders();
+		responseHeaders.forEach((name, values) -> {
+			if (UNCACHED_HEADERS.stream().noneMatch(name::equalsIgnoreCase) 
+					&& !name.regionMatches(true, 0, "Access-Control-", 0, "Access-Control-".length()))
+				headers.put(name, List.copyOf(values));
+		});
+		final var keyHeaders = new HttpHeaders();
+		config.getKeyHeaders().forEach(header -> Optional.ofNullable(requestHeaders.get(header))
+				.ifPresent(values -> keyHeaders.put(header, List.copyOf(values))));
+		
+		final long now = System.currentTimeMillis();
+		this.responseCache.put(key, new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), body, upstreamUri, 
+				HttpHeaders.readOnlyHttpHeaders(keyHeaders), now, now + ttl, now + ttl + staleWhileRevalidate));
+	}
+	
+	private void revalidate(final String key, final CachedResponse cached, final Config config) {
+		
+		if (cached.getUpstreamUri() == null || !cached.getRevalidating().compareAndSet(false, true))
+			return;
+		
+		this.webClient.get()
+				.uri(cached.getUpstreamUri())
+				.headers(headers -> headers.addAll(cached.getKeyHeaders()))
+				.exchangeToMono(response -> response.toEntity(byte[].class))
+				.timeout(this.responseCacheProperties.getRevalidateTimeout())
+				.doFinally(signal -> cached.getRevalidating().set(false))
+				.subscribe(
+						entity -> this.store(key, entity.getStatusCode(), entity.getHeaders(), bodyOf(entity), 
+								cached.getUpstreamUri(), cached.getKeyHeaders(), config), 
+						e -> log.debug("**ResponseCache, revalidation of {} failed: {}*", cached.getUpstreamUri(), e.getMessage()));
+	}
+	
+	private static byte[] bodyOf(final ResponseEntity<byte[]> entity) {
+		return Optional.ofNullable(entity.getBody()).orElseGet(() -> new byte[0]);
+	}
+	
+	private void invalidate(final String routeId) {
+		final var prefix = routeId + " ";
+		this.responseCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+	}
+	
+	private void count(final String routeId, final String result) {
+		this.meterRegistry.counter("gateway.response.cache.requests", "route", routeId, "result", result).increment();
+	}
+	
+	private static boolean hasDirective(final HttpHeaders headers, final String directive) {
+		return headers.getOrEmpty(HttpHeaders.CACHE_CONTROL).stream()
+				.anyMatch(value -> value.toLowerCase(Locale.ROOT).contains(directive));
+	}
+	
+	private static Optional<Long> directiveSeconds(final String cacheControl, final String directive) {
+		for (final String part : cacheControl.split(",")) {
+			final var trimmed = part.trim();
+			if (trimmed.startsWith(directive + "=")) {
+				try {
+					return Optional.of(Long.parseLong(trimmed.substring(directive.length() + 1).replace("\"", "")));
+				}
+				catch (NumberFormatException e) {
+					return Optional.empty();
+				}
+			}
+		}
+		return Optional.empty();
+	}
+	
+	private static URI upstreamUri(final ServerWebExchange exchange) {
+		final URI requestUrl = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR);
+		final Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+		if (requestUrl == null || route == null)
+			return null;
+		if (!"lb".equals(route.getUri().getScheme()))
+			return requestUrl;
+		return UriComponentsBuilder.fromUri(requestUrl)
+				.scheme("http")
+				.host(route.getUri().getHost())
+				.port(-1)
+				.build(true)
+				.toUri();
+	}
+	
+	private final class CachingResponseDecorator extends ServerHttpResponseDecorator {
+		
+		private final ServerWebExchange exchange;
+		private final String key;
+		private final Config config;
+		
+		private CachingResponseDecorator(final ServerWebExchange exchange, final String key, final Config config) {
+			super(exchange.getResponse());
+			this.exchange = exchange;
+			this.key = key;
+			this.config = config;
+		}
+		
+		@Override
+		public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+			this.getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+			if (!isStorable(this.getStatusCode(), this.getHeaders()))
+				return super.writeWith(body);
+			
+			final long maximumEntrySize = responseCacheProperties.getMaximumEntrySize().toBytes();
+			final var copy = new ByteArrayOutputStream();
+			final var overflowed = new AtomicBoolean();
+			return super.writeWith(Flux.from(body)
+					.doOnNext(buffer -> {
+						if (overflowed.get())
+							return;
+						if (copy.size() + buffer.readableByteCount() > maximumEntrySize) {
+							overflowed.set(true);
+							copy.reset();
+							return;
+						}
+						final int readPosition = buffer.readPosition();
+						final byte[] bytes = new byte[buffer.readableByteCount()];
+						buffer.read(bytes);
+						buffer.readPosition(readPosition);
+						copy.writeBytes(bytes);
+					})
+					.doOnComplete(() -> {
+						if (!overflowed.get())
+							store(this.key, this.getStatusCode(), this.getHeaders(), copy.toByteArray(), 
+									upstreamUri(this.exchange), this.exchange.getRequest().getHeaders(), this.config);
+					}));
+		}
+		
+	}
+	
+	@Data
+	public static class Config {
+		
+		private Duration ttl = Duration.ofSeconds(30);
+		private Duration staleWhileRevalidate = Duration.ZERO;
+		private List<String> keyHeaders = new ArrayList<>();
+		
+	}
+	
+}
+
+
+
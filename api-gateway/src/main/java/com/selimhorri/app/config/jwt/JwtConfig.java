@@ -0,0 +1,15 @@
+package com.selimhorri.app.config.jwt;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(JwtProperties.class)
+public class JwtConfig {
+	
+	
+	
+}
+
+
+
@@ -0,0 +1,29 @@
+package com.selimhorri.app.config.jwt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.jwt")
+public class JwtProperties {
+	
+	private String secret = "secret";
+	private List<String> publicPaths = new ArrayList<>();
+	private List<String> publicReadPaths = new ArrayList<>();
+	private ClaimsCache claimsCache = new ClaimsCache();
+	
+	@Data
+	public static class ClaimsCache {
+		
+		private long maximumSize = 10000;
+		
+	}
+	
+}
+
+
+
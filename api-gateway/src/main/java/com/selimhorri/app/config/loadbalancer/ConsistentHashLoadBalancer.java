@@ -0,0 +1,167 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+public class ConsistentHashLoadBalancer 
+		implements ReactorServiceInstanceLoadBalancer, LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+	
+	// MD5 keeps ring positions stable across gateway versions; the digest is reused per thread
+	private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(ConsistentHashLoadBalancer::md5);
+	
+	private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+	private final LatencyAwareLoadBalancer fallback;
+	private final ConsistentHashProperties consistentHashProperties;
+	private final Counter hashedCounter;
+	private final Counter fallbackCounter;
+	private volatile Ring ring = new Ring(List.of(), Set.of(), new TreeMap<>());
+	
+	public ConsistentHashLoadBalancer(final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider, 
+			final String serviceId, 
+			final LatencyAwareLoadBalancer fallback, 
+			final ConsistentHashProperties consistentHashProperties, 
+			final MeterRegistry meterRegistry) {
+		this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+		this.fallback = fallback;
+		this.consistentHashProperties = consistentHashProperties;
+		this.hashedCounter = meterRegistry.counter("loadbalancer.consistent.hash.requests", "service", serviceId, "result", "hashed");
+		this.fallbackCounter = meterRegistry.counter("loadbalancer.consistent.hash.requests", "service", serviceId, "result", "fallback");
+	}
+	
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Mono<Response<ServiceInstance>> choose(final Request request) {
+		
+		final var hashKey = this.hashKeyOf(request);
+		if (hashKey == null) {
+			this.fallbackCounter.increment();
+			return this.fallback.choose(request);
+		}
+		
+		final var supplier = this.serviceInstanceListSupplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+		return supplier.get(request)
+				.next()
+				.flatMap(instances -> {
+					if (instances.isEmpty())
+						return this.fallback.choose(request);
+					final var instance = this.ringOf(instances).locate(hash(hashKey));
+					if (supplier instanceof SelectedInstanceCallback)
+						((SelectedInstanceCallback) supplier).selectedServiceInstance(instance);
+					this.hashedCounter.increment();
+					return Mono.just(new DefaultResponse(instance));
+				});
+	}
+	
+	@SuppressWarnings("rawtypes")
+	private String hashKeyOf(final Request request) {
+		if (!(request.getContext() instanceof RequestDataContext))
+			return null;
+		final var clientRequest = ((RequestDataContext) request.getContext()).getClientRequest();
+		if (clientRequest == null || clientRequest.getHeaders() == null)
+			return null;
+		final var value = clientRequest.getHeaders().getFirst(this.consistentHashProperties.getHashHeader());
+		return (value == null || value.isBlank()) ? null : value;
+	}
+	
+	private Ring ringOf(final List<ServiceInstance> instances) {
+		
+		final var current = this.ring;
+		if (current.source == instances)
+			return current;
+		
+		final var keys = new HashSet<String>(instances.size() * 2);
+		instances.forEach(instance -> keys.add(LatencyAwareLoadBalancer.keyOf(instance)));
+		if (current.keys.equals(keys))
+			return current;
+		
+		final var points = new TreeMap<Long, ServiceInstance>();
+		for (final ServiceInstance instance : instances) {
+			final var key = LatencyAwareLoadBalancer.keyOf(instance);
+			for (int replica = 0; replica < this.consistentHashProperties.getVirtualNodes(); replica++)
+				points.putIfAbsent(hash(key + "#" + replica), instance);
+		}
+		final var rebuilt = new Ring(instances, keys, points);
+		this.ring = rebuilt;
+		return rebuilt;
+	}
+	
+	static long hash(final String value) {
+		final var digest = DIGEST.get().digest(value.getBytes(StandardCharsets.UTF_8));
+		long hash = 0L;
+		for (int i = 0; i < Long.BYTES; i++)
+			hash = (hash << 8) | (digest[i] & 0xFF);
+		return hash;
+	}
+	
+	private static MessageDigest md5() {
+		try {
+			return MessageDigest.getInstance("MD5");
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	@Override
+	public void onStart(final Request<Object> request) {
+		this.fallback.onStart(request);
+	}
+	
+	@Override
+	public void onStartRequest(final Request<Object> request, final Response<ServiceInstance> lbResponse) {
+		this.fallback.onStartRequest(request, lbResponse);
+	}
+	
+	@Override
+	public void onComplete(final CompletionContext<Object, ServiceInstance, Object> completionContext) {
+		this.fallback.onComplete(completionContext);
+	}
+	
+	private static final class Ring {
+		
+		private final List<ServiceInstance> source;
+		private final Set<String> keys;
+		private final NavigableMap<Long, ServiceInstance> points;
+		
+		private Ring(final List<ServiceInstance> source, final Set<String> keys, 
+				final NavigableMap<Long, ServiceInstance> points) {
+			this.source = source;
+			this.keys = keys;
+			this.points = points;
+		}
+		
+		private ServiceInstance locate(final long hash) {
+			final Map.Entry<Long, ServiceInstance> entry = this.points.ceilingEntry(hash);
+			return (entry != null) ? entry.getValue() : this.points.firstEntry().getValue();
+		}
+		
+	}
+	
+}
+
+
+
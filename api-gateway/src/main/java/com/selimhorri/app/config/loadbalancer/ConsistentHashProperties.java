@@ -0,0 +1,20 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.load-balancer.consistent-hash")
+public class ConsistentHashProperties {
+	
+	private Set<String> services = Set.of();
+	private String hashHeader = "X-Auth-Username";
+	private int virtualNodes = 160;
+	
+}
+
+
+
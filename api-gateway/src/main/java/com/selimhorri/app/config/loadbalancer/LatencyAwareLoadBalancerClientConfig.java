@@ -0,0 +1,42 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class LatencyAwareLoadBalancerClientConfig {
+	
+	@Bean
+	public ReactorServiceInstanceLoadBalancer latencyAwareLoadBalancer(final Environment environment, 
+			final LoadBalancerClientFactory loadBalancerClientFactory, 
+			final LatencyAwareLoadBalancerProperties latencyAwareLoadBalancerProperties, 
+			final ConsistentHashProperties consistentHashProperties, 
+			final MeterRegistry meterRegistry) {
+		
+		final var serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+		final var serviceInstanceListSupplierProvider = 
+				loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class);
+		final var latencyAwareLoadBalancer = new LatencyAwareLoadBalancer(
+				serviceInstanceListSupplierProvider, 
+				serviceId, 
+				latencyAwareLoadBalancerProperties, 
+				meterRegistry);
+		
+		if (!consistentHashProperties.getServices().contains(serviceId))
+			return latencyAwareLoadBalancer;
+		return new ConsistentHashLoadBalancer(
+				serviceInstanceListSupplierProvider, 
+				serviceId, 
+				latencyAwareLoadBalancer, 
+				consistentHashProperties, 
+				meterRegistry);
+	}
+	
+}
+
+
+
@@ -0,0 +1,17 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({LatencyAwareLoadBalancerProperties.class, ConsistentHashProperties.class})
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerClientConfig.class)
+public class LoadBalancerConfig {
+	
+	
+	
+}
+
+
+
@@ -0,0 +1,173 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.filter.ratelimit.AbstractRateLimiter;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Primary
+@Component("inMemoryRateLimiter")
+@EnableConfigurationProperties(RateLimiterProperties.class)
+public class InMemoryRateLimiter extends AbstractRateLimiter<InMemoryRateLimiter.Config> implements DisposableBean {
+	
+	public static final String CONFIGURATION_PROPERTY_NAME = "in-memory-rate-limiter";
+	public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+	public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+	public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+	
+	private static final int TOKEN_BITS = 22;
+	private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+	private static final long MILLI_TOKENS = 1000L;
+	private static final Function<String, Map<String, AtomicLong>> NEW_ROUTE = routeId -> new ConcurrentHashMap<>();
+	private static final Function<String, AtomicLong> NEW_BUCKET = key -> new AtomicLong();
+	private static final Mono<Response> ALLOWED = Mono.just(new Response(true, Map.of()));
+	private static final Mono<Response> DENIED = Mono.just(new Response(false, Map.of()));
+	
+	private final Map<String, Map<String, AtomicLong>> buckets = new ConcurrentHashMap<>();
+	private final LongSupplier clock;
+	private final long epoch;
+	private final RateLimiterProperties rateLimiterProperties;
+	private final Counter allowedCounter;
+	private final Counter deniedCounter;
+	private final Disposable sweeper;
+	
+	@Autowired
+	public InMemoryRateLimiter(final ConfigurationService configurationService, 
+			final RateLimiterProperties rateLimiterProperties, final MeterRegistry meterRegistry) {
+		this(configurationService, rateLimiterProperties, meterRegistry, System::currentTimeMillis);
+	}
+	
+	InMemoryRateLimiter(final ConfigurationService configurationService, final RateLimiterProperties rateLimiterProperties, 
+			final MeterRegistry meterRegistry, final LongSupplier clock) {
+		super(Config.class, CONFIGURATION_PROPERTY_NAME, configurationService);
+		this.clock = clock;
+		this.epoch = clock.getAsLong() - 1L;
+		this.rateLimiterProperties = rateLimiterProperties;
+		this.allowedCounter = meterRegistry.counter("gateway.rate.limiter.requests", "result", "allowed");
+		this.deniedCounter = meterRegistry.counter("gateway.rate.limiter.requests", "result", "denied");
+		Gauge.builder("gateway.rate.limiter.buckets", this.buckets, map -> map.values().stream().mapToInt(Map::size).sum())
+				.register(meterRegistry);
+		this.sweeper = Flux.interval(rateLimiterProperties.getIdleTimeout().dividedBy(2))
+				.subscribe(tick -> this.evictIdleBuckets());
+	}
+	
+	@Override
+	public Mono<Response> isAllowed(final String routeId, final String id) {
+		
+		final var config = this.getConfig().get(routeId);
+		if (config == null)
+			throw new IllegalArgumentException("No in-memory rate limiter configuration found for route " + routeId);
+		
+		var routeBuckets = this.buckets.get(routeId);
+		if (routeBuckets == null)
+			routeBuckets = this.buckets.computeIfAbsent(routeId, NEW_ROUTE);
+		var bucket = routeBuckets.get(id);
+		if (bucket == null)
+			bucket = routeBuckets.computeIfAbsent(id, NEW_BUCKET);
+		
+		final long remaining = this.tryAcquire(bucket, config);
+		if (remaining >= 0) {
+			this.allowedCounter.increment();
+			return (this.rateLimiterProperties.isIncludeHeaders()) ? this.response(true, remaining, config) : ALLOWED;
+		}
+		this.deniedCounter.increment();
+		return (this.rateLimiterProperties.isIncludeHeaders()) ? this.response(false, 0L, config) : DENIED;
+	}
+	
+	private long tryAcquire(final AtomicLong bucket, final Config config) {
+		
+		final long capacity = config.getBurstCapacity() * MILLI_TOKENS;
+		final long requested = config.getRequestedTokens() * MILLI_TOKENS;
+		
+		while (true) {
+			final long now = this.clock.getAsLong() - this.epoch;
+			final long state = bucket.get();
+			final long available = refill(state, now, capacity, config.getReplenishRate());
+			
+			if (available < requested)
+				return -1L;
+			
+			final long next = (Math.max(now, state >>> TOKEN_BITS) << TOKEN_BITS) | (available - requested);
+			if (bucket.compareAndSet(state, next))
+				return (available - requested) / MILLI_TOKENS;
+		}
+	}
+	
+	private static long refill(final long state, final long now, final long capacity, final long replenishRatePerSecond) {
+		final long elapsed = Math.max(0L, now - (state >>> TOKEN_BITS));
+		final long tokens = (state == 0L) ? capacity : state & TOKEN_MASK;
+		final long refilled = (elapsed >= capacity) ? capacity : elapsed * replenishRatePerSecond;
+		return Math.min(capacity, tokens + refilled);
+	}
+	
+	private Mono<Response> response(final boolean allowed, final long remaining, final Config config) {
+		return Mono.just(new Response(allowed, Map.of(
+				REMAINING_HEADER, String.valueOf(remaining), 
+				REPLENISH_RATE_HEADER, String.valueOf(config.getReplenishRate()), 
+				BURST_CAPACITY_HEADER, String.valueOf(config.getBurstCapacity()))));
+	}
+	
+	void evictIdleBuckets() {
+		final long now = this.clock.getAsLong() - this.epoch;
+		final long idleTimeout = this.rateLimiterProperties.getIdleTimeout().toMillis();
+		this.buckets.forEach((routeId, routeBuckets) -> {
+			final var config = this.getConfig().get(routeId);
+			if (config == null)
+				return;
+			final long capacity = config.getBurstCapacity() * MILLI_TOKENS;
+			routeBuckets.forEach((id, bucket) -> {
+				final long state = bucket.get();
+				if (now - (state >>> TOKEN_BITS) >= idleTimeout 
+						&& refill(state, now, capacity, config.getReplenishRate()) >= capacity)
+					routeBuckets.remove(id, bucket);
+			});
+		});
+	}
+	
+	@Override
+	public void destroy() {
+		this.sweeper.dispose();
+	}
+	
+	@Data
+	@Validated
+	public static class Config {
+		
+		@Min(1)
+		@Max(1_000_000)
+		private long replenishRate = 1;
+		
+		@Min(1)
+		@Max(4_000)
+		private long burstCapacity = 1;
+		
+		@Min(1)
+		private long requestedTokens = 1;
+		
+	}
+	
+}
+
+
+
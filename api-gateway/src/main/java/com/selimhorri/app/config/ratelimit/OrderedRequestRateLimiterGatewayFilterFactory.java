@@ -0,0 +1,27 @@
+package com.selimhorri.app.config.ratelimit;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.RequestRateLimiterGatewayFilterFactory;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.config.filter.ResponseCacheGatewayFilterFactory;
+
+@Component
+public class OrderedRequestRateLimiterGatewayFilterFactory extends RequestRateLimiterGatewayFilterFactory {
+	
+	// Route filters without an order run after the cache and coalescing filters, whose hits would skip the limit
+	public static final int ORDER = ResponseCacheGatewayFilterFactory.ORDER - 1;
+	
+	public OrderedRequestRateLimiterGatewayFilterFactory(final RateLimiter<?> defaultRateLimiter, final KeyResolver defaultKeyResolver) {
+		super(defaultRateLimiter, defaultKeyResolver);
+	}
+	
+	@Override
+	public GatewayFilter apply(final Config config) {
+		return new OrderedGatewayFilter(super.apply(config), ORDER);
+	}
+	
+}
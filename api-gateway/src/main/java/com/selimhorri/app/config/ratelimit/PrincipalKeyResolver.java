@@ -0,0 +1,31 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.util.Optional;
+
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.config.filter.JwtAuthenticationFilter;
+
+import reactor.core.publisher.Mono;
+
+@Primary
+@Component("principalKeyResolver")
+public class PrincipalKeyResolver implements KeyResolver {
+	
+	@Override
+	public Mono<String> resolve(final ServerWebExchange exchange) {
+		final var request = exchange.getRequest();
+		final var username = request.getHeaders().getFirst(JwtAuthenticationFilter.USERNAME_HEADER);
+		if (username != null)
+			return Mono.just(username);
+		return Mono.justOrEmpty(Optional.ofNullable(request.getRemoteAddress())
+				.map(address -> address.getAddress().getHostAddress()));
+	}
+	
+}
+
+
+
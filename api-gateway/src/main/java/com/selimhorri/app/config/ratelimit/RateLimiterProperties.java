@@ -0,0 +1,19 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.rate-limiter")
+public class RateLimiterProperties {
+	
+	private Duration idleTimeout = Duration.ofMinutes(10);
+	private boolean includeHeaders = false;
+	
+}
+
+
+
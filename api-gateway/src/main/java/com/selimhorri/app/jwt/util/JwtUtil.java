@@ -0,0 +1,12 @@
+package com.selimhorri.app.jwt.util;
+
+import io.jsonwebtoken.Claims;
+
+public interface JwtUtil {
+	
+	Claims verify(final String token);
+	
+}
+
+
+
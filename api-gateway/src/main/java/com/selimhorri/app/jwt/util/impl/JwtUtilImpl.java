@@ -0,0 +1,77 @@
+package com.selimhorri.app.jwt.util.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.util.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class JwtUtilImpl implements JwtUtil {
+	
+	private final String secret;
+	private final Cache<String, Claims> verifiedClaims;
+	
+	public JwtUtilImpl(final JwtProperties jwtProperties, final MeterRegistry meterRegistry) {
+		this.secret = jwtProperties.getSecret();
+		this.verifiedClaims = Caffeine.newBuilder()
+				.maximumSize(jwtProperties.getClaimsCache().getMaximumSize())
+				.expireAfter(new ExpireAtTokenExpiration())
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, this.verifiedClaims, "jwtClaims");
+	}
+	
+	@Override
+	public Claims verify(final String token) {
+		return this.verifiedClaims.get(digest(token), 
+				key -> Jwts.parser().setSigningKey(this.secret).parseClaimsJws(token).getBody());
+	}
+	
+	private static String digest(final String token) {
+		try {
+			return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256")
+					.digest(token.getBytes(StandardCharsets.US_ASCII)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private static final class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+		
+		@Override
+		public long expireAfterCreate(final String key, final Claims claims, final long currentTime) {
+			return (claims.getExpiration() == null) ? 0L 
+					: Math.max(0L, TimeUnit.MILLISECONDS.toNanos(claims.getExpiration().getTime() - System.currentTimeMillis()));
+		}
+		
+		@Override
+		public long expireAfterUpdate(final String key, final Claims claims, final long currentTime, final long currentDuration) {
+			return currentDuration;
+		}
+		
+		@Override
+		public long expireAfterRead(final String key, final Claims claims, final long currentTime, final long currentDuration) {
+			return currentDuration;
+		}
+		
+	}
+	
+}
+
+
+
@@ -0,0 +1,167 @@
+package com.selimhorri.app.config.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.config.jwt.JwtProperties;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "secret";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicReference<ServerWebExchange> forwarded = new AtomicReference<>();
+    private final GatewayFilterChain chain = exchange -> {
+        forwarded.set(exchange);
+        return Mono.empty();
+    };
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        final var properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setPublicPaths(List.of("/app/**"));
+        properties.setPublicReadPaths(List.of("/product-service/api/products/**"));
+        filter = new JwtAuthenticationFilter(new JwtUtilImpl(properties, meterRegistry), properties, meterRegistry);
+    }
+
+    private static String token(final String secret, final long expiresInMillis) {
+        return Jwts.builder()
+                .setSubject("selimhorri")
+                .claim("role", "ROLE_USER")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .signWith(SignatureAlgorithm.HS512, secret)
+                .compact();
+    }
+
+    private MockServerWebExchange filter(final MockServerHttpRequest.BaseBuilder<?> request) {
+        final var exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, chain).block();
+        return exchange;
+    }
+
+    private static void assertUnauthorized(final MockServerWebExchange exchange) {
+        assertEquals(HttpStatus.UNAUTHORIZED, exchange.getResponse().getStatusCode());
+        assertEquals("Bearer", exchange.getResponse().getHeaders().getFirst(HttpHeaders.WWW_AUTHENTICATE));
+    }
+
+    private double count(final String result) {
+        return meterRegistry.get("gateway.jwt.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    void shouldRejectMissingTokenOnProtectedPath() {
+        // When
+        final var exchange = filter(MockServerHttpRequest.get("/order-service/api/orders"));
+
+        // Then
+        assertUnauthorized(exchange);
+        assertNull(forwarded.get());
+        assertEquals(1.0, count("missing"));
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithAnotherSecret() {
+        // When
+        final var exchange = filter(MockServerHttpRequest.get("/order-service/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token("another-secret", 60_000L)));
+
+        // Then
+        assertUnauthorized(exchange);
+        assertNull(forwarded.get());
+        assertEquals(1.0, count("invalid"));
+    }
+
+    @Test
+    void shouldRejectExpiredToken() {
+        // When
+        final var exchange = filter(MockServerHttpRequest.get("/order-service/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(SECRET, -60_000L)));
+
+        // Then
+        assertUnauthorized(exchange);
+        assertNull(forwarded.get());
+    }
+
+    @Test
+    void shouldForwardIdentityOfValidToken() {
+        // When
+        filter(MockServerHttpRequest.get("/order-service/api/orders")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(SECRET, 60_000L))
+                .header(JwtAuthenticationFilter.USERNAME_HEADER, "admin")
+                .header(JwtAuthenticationFilter.ROLE_HEADER, "ROLE_ADMIN"));
+
+        // Then
+        final var headers = forwarded.get().getRequest().getHeaders();
+        assertEquals(List.of("selimhorri"), headers.get(JwtAuthenticationFilter.USERNAME_HEADER));
+        assertEquals(List.of("ROLE_USER"), headers.get(JwtAuthenticationFilter.ROLE_HEADER));
+        assertEquals(1.0, count("authenticated"));
+    }
+
+    @Test
+    void shouldStripClientIdentityHeadersOnAnonymousPublicRequest() {
+        // When
+        final var exchange = filter(MockServerHttpRequest.post("/app/api/authenticate")
+                .header(JwtAuthenticationFilter.USERNAME_HEADER, "admin")
+                .header(JwtAuthenticationFilter.ROLE_HEADER, "ROLE_ADMIN"));
+
+        // Then
+        assertNull(exchange.getResponse().getStatusCode());
+        final var headers = forwarded.get().getRequest().getHeaders();
+        assertFalse(headers.containsKey(JwtAuthenticationFilter.USERNAME_HEADER));
+        assertFalse(headers.containsKey(JwtAuthenticationFilter.ROLE_HEADER));
+        assertEquals(1.0, count("anonymous"));
+    }
+
+    @Test
+    void shouldAllowAnonymousReadsOnPublicReadPaths() {
+        // When
+        filter(MockServerHttpRequest.get("/product-service/api/products/1"));
+
+        // Then
+        assertNotNull(forwarded.get());
+    }
+
+    @Test
+    void shouldRejectAnonymousWritesOnPublicReadPaths() {
+        // When
+        final var exchange = filter(MockServerHttpRequest.post("/product-service/api/products"));
+
+        // Then
+        assertUnauthorized(exchange);
+        assertNull(forwarded.get());
+    }
+
+    @Test
+    void shouldLetPreflightThroughOnProtectedPath() {
+        // When
+        final var exchange = filter(MockServerHttpRequest.options("/order-service/api/orders")
+                .header(HttpHeaders.ORIGIN, "http://localhost:4200")
+                .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "DELETE"));
+
+        // Then
+        assertNull(exchange.getResponse().getStatusCode());
+        assertNotNull(forwarded.get());
+    }
+
+}
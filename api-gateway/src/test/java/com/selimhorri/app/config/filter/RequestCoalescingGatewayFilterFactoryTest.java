@@ -0,0 +1,234 @@
+package com.selimhorri.app.config.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class RequestCoalescingGatewayFilterFactoryTest {
+
+    private static final String ROUTE_ID = "PRODUCT-SERVICE";
+    private static final String PATH = "/product-service/api/products/1";
+    private static final String BODY = "{\"productId\":1}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RequestCoalescingGatewayFilterFactory.Config config = new RequestCoalescingGatewayFilterFactory.Config();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final Sinks.Empty<Void> release = Sinks.empty();
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        config.setMaxWait(Duration.ofSeconds(2));
+        config.setMaxBodySize(DataSize.ofBytes(64));
+        filter = new RequestCoalescingGatewayFilterFactory(meterRegistry).apply(config);
+    }
+
+    private GatewayFilterChain upstream(final String... chunks) {
+        return exchange -> {
+            final int call = upstreamCalls.incrementAndGet();
+            final var response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().add("X-Upstream-Call", String.valueOf(call));
+            return ((call == 1) ? release.asMono() : Mono.<Void>empty())
+                    .then(response.writeWith(Flux.fromArray(chunks)
+                            .map(chunk -> response.bufferFactory().wrap(chunk.getBytes(StandardCharsets.UTF_8)))));
+        };
+    }
+
+    private static MockServerWebExchange exchange(final MockServerHttpRequest.BaseBuilder<?> request) {
+        final var exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id(ROUTE_ID)
+                .uri(URI.create("lb://PRODUCT-SERVICE"))
+                .predicate(e -> true)
+                .build());
+        return exchange;
+    }
+
+    private static MockServerWebExchange get() {
+        return exchange(MockServerHttpRequest.get(PATH).header(HttpHeaders.ACCEPT, "application/json"));
+    }
+
+    private static String body(final MockServerWebExchange exchange) {
+        return exchange.getResponse().getBodyAsString().block(Duration.ofSeconds(1));
+    }
+
+    private double count(final String role) {
+        return meterRegistry.find("gateway.coalescing.requests").tag("route", ROUTE_ID).tag("role", role).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private List<MockServerWebExchange> followers(final int count, final GatewayFilterChain chain, 
+            final List<CompletableFuture<Void>> completions) {
+        final var followers = new ArrayList<MockServerWebExchange>();
+        for (int i = 0; i < count; i++) {
+            final var follower = get();
+            followers.add(follower);
+            completions.add(filter.filter(follower, chain).toFuture());
+        }
+        return followers;
+    }
+
+    @Test
+    void shouldShareOneUpstreamCallWithConcurrentFollowers() throws Exception {
+        // Given
+        final var chain = upstream(BODY);
+        final var leader = get();
+        final var completions = new ArrayList<CompletableFuture<Void>>();
+        completions.add(filter.filter(leader, chain).toFuture());
+        final var followers = followers(5, chain, completions);
+
+        // When
+        release.tryEmitEmpty();
+        CompletableFuture.allOf(completions.toArray(CompletableFuture[]::new)).get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(BODY, body(leader));
+        for (final var follower : followers) {
+            assertEquals(BODY, body(follower));
+            assertEquals("1", follower.getResponse().getHeaders().getFirst("X-Upstream-Call"));
+            assertEquals("true", follower.getResponse().getHeaders().getFirst(RequestCoalescingGatewayFilterFactory.COALESCED_HEADER));
+        }
+        assertEquals(1.0, count("leader"));
+        assertEquals(5.0, count("follower"));
+    }
+
+    @Test
+    void shouldNotCoalesceDifferentKeysOrWrites() {
+        // Given
+        final var chain = upstream(BODY);
+        filter.filter(get(), chain).subscribe();
+
+        // When
+        filter.filter(exchange(MockServerHttpRequest.get(PATH).header(HttpHeaders.ACCEPT, "application/xml")), chain).block();
+        filter.filter(exchange(MockServerHttpRequest.post(PATH)), chain).block();
+        release.tryEmitEmpty();
+
+        // Then
+        assertEquals(3, upstreamCalls.get());
+        assertEquals(0.0, count("follower"));
+    }
+
+    @Test
+    void shouldFallBackToOwnCallWhenLeaderExceedsMaxWait() {
+        // Given
+        config.setMaxWait(Duration.ofMillis(100));
+        final var chain = upstream(BODY);
+        final var leader = filter.filter(get(), chain).toFuture();
+
+        // When
+        final var follower = get();
+        filter.filter(follower, chain).block(Duration.ofSeconds(1));
+
+        // Then
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(BODY, body(follower));
+        assertNull(follower.getResponse().getHeaders().getFirst(RequestCoalescingGatewayFilterFactory.COALESCED_HEADER));
+        assertEquals(1.0, count("fallback"));
+        assertFalse(leader.isDone());
+        release.tryEmitEmpty();
+    }
+
+    @Test
+    void shouldNotShareBodyOverMaxBodySize() throws Exception {
+        // Given
+        final var chunk = "0123456789".repeat(4);
+        final var chain = upstream(chunk, chunk);
+        final var leader = get();
+        final var completions = new ArrayList<CompletableFuture<Void>>();
+        completions.add(filter.filter(leader, chain).toFuture());
+        final var followers = followers(2, chain, completions);
+
+        // When
+        release.tryEmitEmpty();
+        CompletableFuture.allOf(completions.toArray(CompletableFuture[]::new)).get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(3, upstreamCalls.get());
+        assertEquals(chunk + chunk, body(leader));
+        for (final var follower : followers)
+            assertEquals(chunk + chunk, body(follower));
+        assertEquals(2.0, count("fallback"));
+    }
+
+    @Test
+    void shouldReleaseFollowersWhenLeaderFails() throws Exception {
+        // Given
+        final var calls = new AtomicInteger();
+        final GatewayFilterChain chain = exchange -> (calls.incrementAndGet() == 1) 
+                ? release.asMono().then(Mono.error(new IllegalStateException("upstream reset"))) 
+                : upstream(BODY).filter(exchange);
+        final var leader = filter.filter(get(), chain).toFuture();
+        final var follower = get();
+        final var followerCompletion = filter.filter(follower, chain).toFuture();
+
+        // When
+        release.tryEmitEmpty();
+        followerCompletion.get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(leader.isCompletedExceptionally());
+        assertEquals(BODY, body(follower));
+        assertEquals(1.0, count("fallback"));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void shouldRemoveInFlightKeyAfterCompletion() {
+        // Given
+        release.tryEmitEmpty();
+        final var chain = upstream(BODY);
+
+        // When
+        filter.filter(get(), chain).block();
+        filter.filter(get(), chain).block();
+
+        // Then
+        assertEquals(2.0, count("leader"));
+        assertEquals(0.0, count("follower"));
+    }
+
+    @Test
+    void shouldRemoveInFlightKeyWhenLeaderIsCancelled() {
+        // Given
+        final var chain = upstream(BODY);
+        final var leader = filter.filter(get(), chain).subscribe();
+
+        // When
+        leader.dispose();
+        release.tryEmitEmpty();
+        final var next = get();
+        filter.filter(next, chain).block(Duration.ofSeconds(1));
+
+        // Then
+        assertEquals(2.0, count("leader"));
+        assertEquals(BODY, body(next));
+    }
+
+}
@@ -0,0 +1,294 @@
+package com.selimhorri.app.config.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.cache.CachedResponse;
+import com.selimhorri.app.config.cache.ResponseCacheProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class ResponseCacheGatewayFilterFactoryTest {
+
+    private static final String ROUTE_ID = "PRODUCT-SERVICE";
+    private static final String PATH = "/product-service/api/products/1";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Cache<String, CachedResponse> responseCache = Caffeine.newBuilder().build();
+    private final ResponseCacheProperties properties = new ResponseCacheProperties();
+    private final AtomicReference<ClientRequest> revalidation = new AtomicReference<>();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaximumEntrySize(DataSize.ofBytes(64));
+        final var webClientBuilder = WebClient.builder().exchangeFunction(request -> {
+            revalidation.set(request);
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CACHE_CONTROL, "max-age=60")
+                    .body("revalidated")
+                    .build());
+        });
+        final var config = new ResponseCacheGatewayFilterFactory.Config();
+        config.setTtl(Duration.ofSeconds(30));
+        config.setStaleWhileRevalidate(Duration.ofSeconds(10));
+        config.setKeyHeaders(List.of(HttpHeaders.ACCEPT));
+        filter = new ResponseCacheGatewayFilterFactory(responseCache, properties, webClientBuilder, meterRegistry).apply(config);
+    }
+
+    private static MockServerWebExchange exchange(final MockServerHttpRequest.BaseBuilder<?> request) {
+        final var exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id(ROUTE_ID)
+                .uri(URI.create("lb://PRODUCT-SERVICE"))
+                .predicate(e -> true)
+                .build());
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR, 
+                URI.create("http://10.0.0.1:8500" + exchange.getRequest().getURI().getRawPath()));
+        return exchange;
+    }
+
+    private GatewayFilterChain upstream(final HttpStatus status, final HttpHeaders headers, final String... chunks) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            final var response = exchange.getResponse();
+            response.setStatusCode(status);
+            response.getHeaders().addAll(headers);
+            return response.writeWith(Flux.fromArray(chunks)
+                    .map(chunk -> response.bufferFactory().wrap(chunk.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+    private GatewayFilterChain upstream(final String cacheControl, final String body) {
+        final var headers = new HttpHeaders();
+        if (cacheControl != null)
+            headers.setCacheControl(cacheControl);
+        return upstream(HttpStatus.OK, headers, body);
+    }
+
+    private MockServerWebExchange get(final GatewayFilterChain chain) {
+        final var exchange = exchange(MockServerHttpRequest.get(PATH).header(HttpHeaders.ACCEPT, "application/json"));
+        filter.filter(exchange, chain).block();
+        return exchange;
+    }
+
+    private CachedResponse onlyEntry() {
+        assertEquals(1, responseCache.estimatedSize());
+        return responseCache.asMap().values().iterator().next();
+    }
+
+    private void putEntry(final String path, final long freshFor, final long staleFor) {
+        final long now = System.currentTimeMillis();
+        final var keyHeaders = new HttpHeaders();
+        keyHeaders.setAccept(List.of(MediaType.APPLICATION_JSON));
+        responseCache.put(ROUTE_ID + " " + path + "\naccept:application/json", new CachedResponse(HttpStatus.OK, 
+                HttpHeaders.readOnlyHttpHeaders(new HttpHeaders()), "cached".getBytes(StandardCharsets.UTF_8), 
+                URI.create("http://PRODUCT-SERVICE" + path), keyHeaders, now - 1_000L, now + freshFor, now + freshFor + staleFor));
+    }
+
+    private double count(final String result) {
+        return meterRegistry.get("gateway.response.cache.requests").tag("route", ROUTE_ID).tag("result", result).counter().count();
+    }
+
+    @Test
+    void shouldStoreMissAndServeFreshHit() {
+        // Given
+        final var chain = upstream("max-age=60", "{\"productId\":1}");
+
+        // When
+        final var miss = get(chain);
+        final var hit = get(chain);
+
+        // Then
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("MISS", miss.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER));
+        assertEquals("HIT", hit.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER));
+        assertEquals("{\"productId\":1}", hit.getResponse().getBodyAsString().block());
+        assertEquals(HttpStatus.OK, hit.getResponse().getStatusCode());
+        assertNotNull(hit.getResponse().getHeaders().getFirst(HttpHeaders.AGE));
+        assertEquals(URI.create("http://PRODUCT-SERVICE" + PATH), onlyEntry().getUpstreamUri());
+        assertEquals(1.0, count("miss"));
+        assertEquals(1.0, count("hit"));
+    }
+
+    @Test
+    void shouldKeySeparatelyOnConfiguredHeaders() {
+        // Given
+        get(upstream("max-age=60", "json"));
+
+        // When
+        final var exchange = exchange(MockServerHttpRequest.get(PATH).header(HttpHeaders.ACCEPT, "application/xml"));
+        filter.filter(exchange, upstream("max-age=60", "xml")).block();
+
+        // Then
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("xml", exchange.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void shouldServeStaleEntryAndRevalidateInBackground() {
+        // Given
+        putEntry(PATH, -500L, 10_000L);
+
+        // When
+        final var exchange = get(upstream("max-age=60", "unused"));
+
+        // Then
+        assertEquals(0, upstreamCalls.get());
+        assertEquals("STALE", exchange.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER));
+        assertEquals("cached", exchange.getResponse().getBodyAsString().block());
+        assertEquals(URI.create("http://PRODUCT-SERVICE" + PATH), revalidation.get().url());
+        assertEquals("application/json", revalidation.get().headers().getFirst(HttpHeaders.ACCEPT));
+        assertEquals("revalidated", new String(onlyEntry().getBody(), StandardCharsets.UTF_8));
+        assertEquals(1.0, count("stale"));
+    }
+
+    @Test
+    void shouldTreatEntryPastStaleWindowAsMiss() {
+        // Given
+        putEntry(PATH, -20_000L, 10_000L);
+
+        // When
+        final var exchange = get(upstream("max-age=60", "fresh"));
+
+        // Then
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("fresh", exchange.getResponse().getBodyAsString().block());
+        assertNull(revalidation.get());
+        assertEquals("fresh", new String(onlyEntry().getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldPreferSharedMaxAgeAndHonourStaleWhileRevalidate() {
+        // When
+        get(upstream("public, max-age=5, s-maxage=120, stale-while-revalidate=30", "body"));
+
+        // Then
+        final var entry = onlyEntry();
+        assertEquals(120_000L, entry.getFreshUntil() - entry.getStoredAt());
+        assertEquals(30_000L, entry.getStaleUntil() - entry.getFreshUntil());
+    }
+
+    @Test
+    void shouldUseMaxAgeOrRouteDefaults() {
+        // When
+        get(upstream("max-age=5", "body"));
+        final var withMaxAge = onlyEntry();
+        responseCache.invalidateAll();
+        get(upstream(null, "body"));
+        final var withDefaults = onlyEntry();
+
+        // Then
+        assertEquals(5_000L, withMaxAge.getFreshUntil() - withMaxAge.getStoredAt());
+        assertEquals(10_000L, withMaxAge.getStaleUntil() - withMaxAge.getFreshUntil());
+        assertEquals(30_000L, withDefaults.getFreshUntil() - withDefaults.getStoredAt());
+    }
+
+    @Test
+    void shouldNotStoreNoStorePrivateOrCookieResponses() {
+        // Given
+        final var cookie = new HttpHeaders();
+        cookie.add(HttpHeaders.SET_COOKIE, "session=1");
+
+        // When
+        final var noStore = get(upstream("no-store", "a"));
+        get(upstream("private, max-age=60", "b"));
+        get(upstream(HttpStatus.OK, cookie, "c"));
+        get(upstream(HttpStatus.NOT_FOUND, new HttpHeaders(), "d"));
+
+        // Then
+        assertEquals("a", noStore.getResponse().getBodyAsString().block());
+        assertEquals(0, responseCache.estimatedSize());
+    }
+
+    @Test
+    void shouldStreamButNotStoreBodyOverEntrySize() {
+        // Given
+        final var chunk = "0123456789".repeat(3);
+
+        // When
+        final var exchange = get(upstream(HttpStatus.OK, new HttpHeaders(), chunk, chunk, chunk));
+
+        // Then
+        assertEquals(chunk.repeat(3), exchange.getResponse().getBodyAsString().block());
+        assertEquals(0, responseCache.estimatedSize());
+    }
+
+    @Test
+    void shouldNotStoreWhenContentLengthExceedsEntrySize() {
+        // Given
+        final var headers = new HttpHeaders();
+        headers.setContentLength(128);
+
+        // When
+        get(upstream(HttpStatus.OK, headers, "small"));
+
+        // Then
+        assertEquals(0, responseCache.estimatedSize());
+    }
+
+    @Test
+    void shouldBypassCacheWhenClientAsksForNoCache() {
+        // Given
+        putEntry(PATH, 60_000L, 0L);
+        final var exchange = exchange(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.ACCEPT, "application/json")
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache"));
+
+        // When
+        filter.filter(exchange, upstream("max-age=60", "origin")).block();
+
+        // Then
+        assertEquals("origin", exchange.getResponse().getBodyAsString().block());
+        assertEquals(1.0, count("bypass"));
+    }
+
+    @Test
+    void shouldInvalidateRouteOnlyAfterSuccessfulWrite() {
+        // Given
+        putEntry(PATH, 60_000L, 0L);
+        putEntry("/product-service/api/products/2", 60_000L, 0L);
+        responseCache.put("USER-SERVICE /user-service/api/users/1", responseCache.asMap().values().iterator().next());
+
+        // When
+        filter.filter(exchange(MockServerHttpRequest.put("/product-service/api/products")), 
+                upstream(HttpStatus.BAD_REQUEST, new HttpHeaders())).block();
+        filter.filter(exchange(MockServerHttpRequest.options("/product-service/api/products")), 
+                upstream(HttpStatus.OK, new HttpHeaders())).block();
+        final var afterRejectedWrite = responseCache.estimatedSize();
+        filter.filter(exchange(MockServerHttpRequest.post("/product-service/api/products")), 
+                upstream(HttpStatus.OK, new HttpHeaders())).block();
+
+        // Then
+        assertEquals(3, afterRejectedWrite);
+        assertEquals(List.of("USER-SERVICE /user-service/api/users/1"), List.copyOf(responseCache.asMap().keySet()));
+    }
+
+}
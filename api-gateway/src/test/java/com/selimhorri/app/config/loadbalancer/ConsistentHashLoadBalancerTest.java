@@ -0,0 +1,164 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultRequestContext;
+import org.springframework.cloud.client.loadbalancer.RequestData;
+import org.springframework.cloud.client.loadbalancer.RequestDataContext;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.LinkedMultiValueMap;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ConsistentHashLoadBalancerTest {
+
+    private static final String SERVICE_ID = "PROXY-CLIENT";
+    private static final int KEYS = 10_000;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConsistentHashProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ConsistentHashProperties();
+    }
+
+    private static List<ServiceInstance> instances(final int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> (ServiceInstance) new DefaultServiceInstance("proxy-" + i, SERVICE_ID, "10.0.0." + i, 8900, false))
+                .collect(Collectors.toList());
+    }
+
+    private ConsistentHashLoadBalancer loadBalancer(final List<ServiceInstance> instances) {
+        final var supplier = ServiceInstanceListSuppliers.toProvider(SERVICE_ID, instances.toArray(ServiceInstance[]::new));
+        final var fallback = new LatencyAwareLoadBalancer(supplier, SERVICE_ID, new LatencyAwareLoadBalancerProperties(), meterRegistry);
+        return new ConsistentHashLoadBalancer(supplier, SERVICE_ID, fallback, properties, meterRegistry);
+    }
+
+    private static DefaultRequest<RequestDataContext> request(final String username) {
+        final var headers = new HttpHeaders();
+        if (username != null)
+            headers.add("X-Auth-Username", username);
+        return new DefaultRequest<>(new RequestDataContext(new RequestData(HttpMethod.GET, 
+                URI.create("http://PROXY-CLIENT/app/api/orders"), headers, new LinkedMultiValueMap<>(), new HashMap<>())));
+    }
+
+    private static String choose(final ConsistentHashLoadBalancer loadBalancer, final String username) {
+        return loadBalancer.choose(request(username)).block().getServer().getInstanceId();
+    }
+
+    private static Map<String, String> assignments(final ConsistentHashLoadBalancer loadBalancer) {
+        final var assignments = new HashMap<String, String>();
+        for (int i = 0; i < KEYS; i++)
+            assignments.put("user-" + i, choose(loadBalancer, "user-" + i));
+        return assignments;
+    }
+
+    private double count(final String result) {
+        return meterRegistry.get("loadbalancer.consistent.hash.requests").tag("result", result).counter().count();
+    }
+
+    @Test
+    void choose_WhenKeyIsRepeated_ShouldAlwaysPickTheSameInstance() {
+        // Given
+        final var instances = instances(4);
+        final ConsistentHashLoadBalancer loadBalancer = loadBalancer(instances);
+        final ConsistentHashLoadBalancer otherGateway = loadBalancer(new ArrayList<>(instances));
+
+        // When / Then
+        for (int i = 0; i < 100; i++) {
+            final var expected = choose(loadBalancer, "user-" + i);
+            for (int repeat = 0; repeat < 5; repeat++)
+                assertEquals(expected, choose(loadBalancer, "user-" + i));
+            assertEquals(expected, choose(otherGateway, "user-" + i));
+        }
+        assertEquals(700.0, count("hashed"));
+    }
+
+    @Test
+    void choose_WhenKeysAreSpread_ShouldBalanceAcrossInstances() {
+        // When
+        final var perInstance = assignments(loadBalancer(instances(4))).values().stream()
+                .collect(Collectors.groupingBy(id -> id, Collectors.counting()));
+
+        // Then
+        assertEquals(4, perInstance.size());
+        perInstance.values().forEach(count -> assertTrue(count > KEYS / 4 * 0.7 && count < KEYS / 4 * 1.3, "keys " + count));
+    }
+
+    @Test
+    void choose_WhenInstanceIsAdded_ShouldMoveOnlyAboutOneNthOfKeysToIt() {
+        // Given
+        final var before = assignments(loadBalancer(instances(4)));
+
+        // When
+        final var after = assignments(loadBalancer(instances(5)));
+
+        // Then
+        final var moved = before.keySet().stream()
+                .filter(key -> !before.get(key).equals(after.get(key)))
+                .collect(Collectors.toList());
+        assertTrue(moved.size() > KEYS / 5 * 0.6 && moved.size() < KEYS / 5 * 1.4, "moved " + moved.size());
+        moved.forEach(key -> assertEquals("proxy-4", after.get(key)));
+    }
+
+    @Test
+    void choose_WhenInstanceIsRemoved_ShouldMoveOnlyItsKeys() {
+        // Given
+        final var before = assignments(loadBalancer(instances(5)));
+
+        // When
+        final var after = assignments(loadBalancer(instances(4)));
+
+        // Then
+        before.forEach((key, instanceId) -> {
+            if (!"proxy-4".equals(instanceId))
+                assertEquals(instanceId, after.get(key));
+        });
+        assertFalse(after.containsValue("proxy-4"));
+    }
+
+    @Test
+    void choose_WhenHeaderIsMissing_ShouldUseFallbackBalancer() {
+        // Given
+        final ConsistentHashLoadBalancer loadBalancer = loadBalancer(instances(3));
+
+        // When
+        final var response = loadBalancer.choose(request(null)).block();
+
+        // Then
+        assertTrue(response.hasServer());
+        assertEquals(1.0, count("fallback"));
+        assertEquals(0.0, count("hashed"));
+    }
+
+    @Test
+    void choose_WhenContextIsNotRequestData_ShouldUseFallbackBalancer() {
+        // Given
+        final ConsistentHashLoadBalancer loadBalancer = loadBalancer(instances(3));
+
+        // When
+        final var response = loadBalancer.choose(new DefaultRequest<>(new DefaultRequestContext())).block();
+
+        // Then
+        assertTrue(response.hasServer());
+        assertEquals(1.0, count("fallback"));
+    }
+
+}
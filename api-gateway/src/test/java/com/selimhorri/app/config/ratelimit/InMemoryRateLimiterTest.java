@@ -0,0 +1,186 @@
+package com.selimhorri.app.config.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class InMemoryRateLimiterTest {
+
+    private static final String ROUTE = "PRODUCT-SERVICE";
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RateLimiterProperties properties = new RateLimiterProperties();
+    private InMemoryRateLimiter limiter;
+
+    private InMemoryRateLimiter limiter(final long replenishRate, final long burstCapacity) {
+        limiter = new InMemoryRateLimiter(mock(ConfigurationService.class), properties, meterRegistry, clock::get);
+        final var config = new InMemoryRateLimiter.Config();
+        config.setReplenishRate(replenishRate);
+        config.setBurstCapacity(burstCapacity);
+        limiter.getConfig().put(ROUTE, config);
+        return limiter;
+    }
+
+    private boolean acquire(final String id) {
+        return limiter.isAllowed(ROUTE, id).block().isAllowed();
+    }
+
+    private int drain(final String id) {
+        int allowed = 0;
+        while (acquire(id))
+            allowed++;
+        return allowed;
+    }
+
+    private double buckets() {
+        return meterRegistry.get("gateway.rate.limiter.buckets").gauge().value();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (limiter != null)
+            limiter.destroy();
+    }
+
+    @Test
+    void shouldAllowBurstCapacityThenDeny() {
+        // Given
+        limiter(10, 5);
+
+        // When
+        final int allowed = drain("alice");
+
+        // Then
+        assertEquals(5, allowed);
+        assertFalse(acquire("alice"));
+        assertTrue(acquire("bob"));
+    }
+
+    @Test
+    void shouldRefillProportionallyToElapsedTime() {
+        // Given
+        limiter(10, 10);
+        drain("alice");
+
+        // When
+        clock.addAndGet(100);
+        final int afterTenthOfSecond = drain("alice");
+        clock.addAndGet(350);
+        final int afterThreeAndHalfTenths = drain("alice");
+
+        // Then
+        assertEquals(1, afterTenthOfSecond);
+        assertEquals(3, afterThreeAndHalfTenths);
+    }
+
+    @Test
+    void shouldNeverRefillBeyondBurstCapacity() {
+        // Given
+        limiter(1_000_000, 4_000);
+        drain("alice");
+
+        // When
+        clock.addAndGet(Duration.ofDays(30).toMillis());
+        final int allowed = drain("alice");
+
+        // Then
+        assertEquals(4_000, allowed);
+    }
+
+    @Test
+    void shouldReportRemainingTokensWhenHeadersEnabled() {
+        // Given
+        properties.setIncludeHeaders(true);
+        limiter(10, 3);
+
+        // When
+        final var response = limiter.isAllowed(ROUTE, "alice").block();
+
+        // Then
+        assertTrue(response.isAllowed());
+        assertEquals("2", response.getHeaders().get(InMemoryRateLimiter.REMAINING_HEADER));
+        assertEquals("3", response.getHeaders().get(InMemoryRateLimiter.BURST_CAPACITY_HEADER));
+    }
+
+    @Test
+    void shouldEvictOnlyIdleAndFullyRefilledBuckets() {
+        // Given
+        properties.setIdleTimeout(Duration.ofMinutes(10));
+        limiter(1, 4);
+        drain("idle");
+        clock.addAndGet(Duration.ofMinutes(10).toMillis());
+        drain("active");
+
+        // When
+        limiter.evictIdleBuckets();
+
+        // Then
+        assertEquals(1.0, buckets());
+        assertFalse(acquire("active"));
+        assertEquals(4, drain("idle"));
+        assertEquals(2.0, buckets());
+    }
+
+    @Test
+    void shouldKeepBucketThatIsIdleButStillRefilling() {
+        // Given
+        properties.setIdleTimeout(Duration.ofSeconds(1));
+        limiter(1, 4);
+        drain("alice");
+        clock.addAndGet(2_000);
+
+        // When
+        limiter.evictIdleBuckets();
+
+        // Then
+        assertEquals(1.0, buckets());
+        assertEquals(2, drain("alice"));
+    }
+
+    @Test
+    void shouldGrantExactlyBurstCapacityUnderConcurrentAcquisition() throws Exception {
+        // Given
+        limiter(1, 4_000);
+        final int threads = 8;
+        final var executor = Executors.newFixedThreadPool(threads);
+        final var start = new CountDownLatch(1);
+        final var tasks = new ArrayList<Callable<Integer>>();
+        for (int i = 0; i < threads; i++) {
+            tasks.add(() -> {
+                start.await();
+                int allowed = 0;
+                for (int attempt = 0; attempt < 1_000; attempt++)
+                    if (acquire("alice"))
+                        allowed++;
+                return allowed;
+            });
+        }
+
+        // When
+        final var futures = tasks.stream().map(executor::submit).collect(Collectors.toList());
+        start.countDown();
+        int allowed = 0;
+        for (final var future : futures)
+            allowed += future.get();
+        executor.shutdown();
+
+        // Then
+        assertEquals(4_000, allowed);
+        assertFalse(acquire("alice"));
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.selimhorri.app.config.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ConfigurationService;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.cache.ResponseCacheProperties;
+import com.selimhorri.app.config.filter.RequestCoalescingGatewayFilterFactory;
+import com.selimhorri.app.config.filter.ResponseCacheGatewayFilterFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class OrderedRequestRateLimiterGatewayFilterFactoryTest {
+
+    private static final String ROUTE = "PRODUCT-SERVICE";
+    private static final String BODY = "{\"productId\":1}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final Sinks.Empty<Void> release = Sinks.empty();
+    private final GatewayFilterChain upstream = exchange -> {
+        upstreamCalls.incrementAndGet();
+        final var response = exchange.getResponse();
+        response.setStatusCode(HttpStatus.OK);
+        return release.asMono()
+                .then(response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8)))));
+    };
+    private InMemoryRateLimiter limiter;
+    private List<GatewayFilter> filters;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new InMemoryRateLimiter(mock(ConfigurationService.class), new RateLimiterProperties(), meterRegistry, 
+                new AtomicLong(1_700_000_000_000L)::get);
+        final var limiterConfig = new InMemoryRateLimiter.Config();
+        limiterConfig.setReplenishRate(1);
+        limiterConfig.setBurstCapacity(2);
+        limiter.getConfig().put(ROUTE, limiterConfig);
+
+        final var rateLimiterConfig = new OrderedRequestRateLimiterGatewayFilterFactory.Config();
+        rateLimiterConfig.setRouteId(ROUTE);
+        final var responseCache = new ResponseCacheGatewayFilterFactory(Caffeine.newBuilder().build(), 
+                new ResponseCacheProperties(), WebClient.builder(), meterRegistry);
+        filters = new ArrayList<>(List.of(
+                new RequestCoalescingGatewayFilterFactory(meterRegistry).apply(new RequestCoalescingGatewayFilterFactory.Config()), 
+                responseCache.apply(new ResponseCacheGatewayFilterFactory.Config()), 
+                new OrderedRequestRateLimiterGatewayFilterFactory(limiter, exchange -> Mono.just("alice")).apply(rateLimiterConfig)));
+        AnnotationAwareOrderComparator.sort(filters);
+    }
+
+    @AfterEach
+    void tearDown() {
+        limiter.destroy();
+    }
+
+    private Mono<Void> filter(final ServerWebExchange exchange, final int index) {
+        if (index == filters.size())
+            return upstream.filter(exchange);
+        return filters.get(index).filter(exchange, next -> filter(next, index + 1));
+    }
+
+    private static MockServerWebExchange exchange() {
+        final var exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/product-service/api/products/1"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id(ROUTE)
+                .uri(URI.create("lb://PRODUCT-SERVICE"))
+                .predicate(e -> true)
+                .build());
+        return exchange;
+    }
+
+    private MockServerWebExchange get() {
+        final var exchange = exchange();
+        filter(exchange, 0).block();
+        return exchange;
+    }
+
+    @Test
+    void shouldRunBeforeCacheAndCoalescing() {
+        // Then
+        assertTrue(OrderedRequestRateLimiterGatewayFilterFactory.ORDER < ResponseCacheGatewayFilterFactory.ORDER);
+        assertTrue(ResponseCacheGatewayFilterFactory.ORDER < RequestCoalescingGatewayFilterFactory.ORDER);
+        assertTrue(RequestCoalescingGatewayFilterFactory.ORDER < NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER);
+    }
+
+    @Test
+    void shouldLimitCacheHits() {
+        // Given
+        release.tryEmitEmpty();
+
+        // When
+        final var miss = get();
+        final var hit = get();
+        final var limited = get();
+
+        // Then
+        assertEquals("MISS", miss.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER));
+        assertEquals("HIT", hit.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, limited.getResponse().getStatusCode());
+        assertNull(limited.getResponse().getHeaders().getFirst(ResponseCacheGatewayFilterFactory.CACHE_STATUS_HEADER));
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void shouldLimitCoalescedFollowers() throws Exception {
+        // Given
+        final var leader = exchange();
+        final var follower = exchange();
+        final var limited = exchange();
+        final var completions = List.of(filter(leader, 0).toFuture(), filter(follower, 0).toFuture());
+
+        // When
+        filter(limited, 0).block();
+        release.tryEmitEmpty();
+        CompletableFuture.allOf(completions.toArray(CompletableFuture[]::new)).get(1, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, limited.getResponse().getStatusCode());
+        assertNull(limited.getResponse().getHeaders().getFirst(RequestCoalescingGatewayFilterFactory.COALESCED_HEADER));
+        assertEquals(BODY, follower.getResponse().getBodyAsString().block());
+        assertEquals("true", follower.getResponse().getHeaders().getFirst(RequestCoalescingGatewayFilterFactory.COALESCED_HEADER));
+        assertEquals(1, upstreamCalls.get());
+    }
+
+}
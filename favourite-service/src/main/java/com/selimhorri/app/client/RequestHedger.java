@@ -0,0 +1,264 @@
+package com.selimhorri.app.client;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.config.client.HedgingProperties;
+import com.selimhorri.app.config.loadbalancer.InstanceExclusions;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+@Component
+public class RequestHedger implements DisposableBean {
+	
+	private static final String METRIC_PREFIX = "hedging";
+	private static final long MILLI_TOKENS = 1000L;
+	private static final double NANOS_PER_SECOND = 1_000_000_000D;
+	
+	private final HedgingProperties hedgingProperties;
+	private final MeterRegistry meterRegistry;
+	private final ThreadPoolExecutor threadPoolExecutor;
+	private final ExecutorService executorService;
+	private final Map<String, ServiceHedge> serviceHedges = new ConcurrentHashMap<>();
+	private final AtomicLong budget;
+	private final long maxBudget;
+	private final long budgetDeposit;
+	
+	public RequestHedger(final HedgingProperties hedgingProperties, final MeterRegistry meterRegistry) {
+		this.hedgingProperties = hedgingProperties;
+		this.meterRegistry = meterRegistry;
+		this.threadPoolExecutor = new ThreadPoolExecutor(
+				hedgingProperties.getPoolSize(), 
+				hedgingProperties.getPoolSize(), 
+				60L, TimeUnit.SECONDS, 
+				new LinkedBlockingQueue<>(hedgingProperties.getQueueCapacity()), 
+				new CustomizableThreadFactory(METRIC_PREFIX + "-"));
+		this.executorService = ExecutorServiceMetrics.monitor(meterRegistry, this.threadPoolExecutor, METRIC_PREFIX);
+		this.maxBudget = hedgingProperties.getMaxBudget() * MILLI_TOKENS;
+		this.budgetDeposit = Math.round(hedgingProperties.getBudgetRatio() * MILLI_TOKENS);
+		this.budget = new AtomicLong(this.maxBudget);
+	}
+	
+	public <T> T call(final String service, final Supplier<T> attempt) {
+		
+		if (!this.hedgingProperties.isEnabled())
+			return attempt.get();
+		
+		final var serviceHedge = this.serviceHedges.computeIfAbsent(service, this::register);
+		serviceHedge.requests.increment();
+		this.budget.accumulateAndGet(this.budgetDeposit, (current, deposit) -> Math.min(this.maxBudget, current + deposit));
+		
+		final var call = new HedgedCall<T>(attempt, serviceHedge);
+		final Future<?> primary;
+		try {
+			primary = this.executorService.submit(() -> call.run(false));
+		}
+		catch (RejectedExecutionException e) {
+			return attempt.get();
+		}
+		
+		Future<?> backup = null;
+		try {
+			if (!this.awaitStart(call, primary)) {
+				serviceHedge.saturated.increment();
+				return attempt.get();
+			}
+			try {
+				final long waitNanos = serviceHedge.delayNanos - (System.nanoTime() - call.started.join());
+				return call.result.get(Math.max(0L, waitNanos), TimeUnit.NANOSECONDS);
+			}
+			catch (TimeoutException e) {
+				backup = this.hedge(call);
+				return call.result.get();
+			}
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw new IllegalStateException(e.getCause());
+		}
+		finally {
+			primary.cancel(true);
+			if (backup != null)
+				backup.cancel(true);
+		}
+	}
+	
+	private boolean awaitStart(final HedgedCall<?> call, final Future<?> primary) throws InterruptedException, ExecutionException {
+		try {
+			call.started.get(this.hedgingProperties.getMaxDelay().toNanos(), TimeUnit.NANOSECONDS);
+			return true;
+		}
+		catch (TimeoutException e) {
+			return !primary.cancel(false);
+		}
+	}
+	
+	private Future<?> hedge(final HedgedCall<?> call) {
+		
+		if (call.result.isDone())
+			return null;
+		if (!this.threadPoolExecutor.getQueue().isEmpty()) {
+			call.serviceHedge.saturated.increment();
+			return null;
+		}
+		if (!this.tryWithdraw()) {
+			call.serviceHedge.budgetExhausted.increment();
+			return null;
+		}
+		
+		call.attempts.incrementAndGet();
+		try {
+			final var backup = this.executorService.submit(() -> call.run(true));
+			call.serviceHedge.hedges.increment();
+			return backup;
+		}
+		catch (RejectedExecutionException e) {
+			call.abandonAttempt();
+			return null;
+		}
+	}
+	
+	private boolean tryWithdraw() {
+		for (;;) {
+			final long current = this.budget.get();
+			if (current < MILLI_TOKENS)
+				return false;
+			if (this.budget.compareAndSet(current, current - MILLI_TOKENS))
+				return true;
+		}
+	}
+	
+	private ServiceHedge register(final String service) {
+		final var serviceHedge = new ServiceHedge(this.hedgingProperties, 
+				this.meterRegistry.counter(METRIC_PREFIX + ".requests", "service", service), 
+				this.meterRegistry.counter(METRIC_PREFIX + ".hedges", "service", service), 
+				this.meterRegistry.counter(METRIC_PREFIX + ".wins", "service", service), 
+				this.meterRegistry.counter(METRIC_PREFIX + ".budget.exhausted", "service", service), 
+				this.meterRegistry.counter(METRIC_PREFIX + ".saturated", "service", service));
+		Gauge.builder(METRIC_PREFIX + ".delay", serviceHedge, h -> h.delayNanos / NANOS_PER_SECOND)
+				.tag("service", service)
+				.baseUnit("seconds")
+				.register(this.meterRegistry);
+		return serviceHedge;
+	}
+	
+	@Override
+	public void destroy() {
+		this.threadPoolExecutor.shutdownNow();
+	}
+	
+	private static final class ServiceHedge {
+		
+		private final HedgingProperties hedgingProperties;
+		private final Counter requests;
+		private final Counter hedges;
+		private final Counter wins;
+		private final Counter budgetExhausted;
+		private final Counter saturated;
+		private final long[] samples;
+		private int next;
+		private int count;
+		private volatile long delayNanos;
+		
+		private ServiceHedge(final HedgingProperties hedgingProperties, final Counter requests, 
+				final Counter hedges, final Counter wins, final Counter budgetExhausted, final Counter saturated) {
+			this.hedgingProperties = hedgingProperties;
+			this.requests = requests;
+			this.hedges = hedges;
+			this.wins = wins;
+			this.budgetExhausted = budgetExhausted;
+			this.saturated = saturated;
+			this.samples = new long[Math.max(1, hedgingProperties.getWindowSize())];
+			this.delayNanos = hedgingProperties.getMaxDelay().toNanos();
+		}
+		
+		private synchronized void record(final long latencyNanos) {
+			this.samples[this.next] = latencyNanos;
+			this.next = (this.next + 1) % this.samples.length;
+			if (this.count < this.samples.length)
+				this.count++;
+			if (this.count >= this.hedgingProperties.getMinSamples() && this.next % 16 == 0)
+				this.delayNanos = this.percentile();
+		}
+		
+		private long percentile() {
+			final var sorted = Arrays.copyOf(this.samples, this.count);
+			Arrays.sort(sorted);
+			final int index = (int) Math.ceil(this.hedgingProperties.getPercentile() * sorted.length) - 1;
+			final long value = sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+			return Math.max(this.hedgingProperties.getMinDelay().toNanos(), 
+					Math.min(this.hedgingProperties.getMaxDelay().toNanos(), value));
+		}
+		
+	}
+	
+	private static final class HedgedCall<T> {
+		
+		private final Supplier<T> attempt;
+		private final ServiceHedge serviceHedge;
+		private final CompletableFuture<Long> started = new CompletableFuture<>();
+		private final CompletableFuture<T> result = new CompletableFuture<>();
+		private final InstanceExclusions exclusions = new InstanceExclusions();
+		private final AtomicInteger attempts = new AtomicInteger(1);
+		private final AtomicInteger failures = new AtomicInteger();
+		private volatile RuntimeException lastFailure;
+		
+		private HedgedCall(final Supplier<T> attempt, final ServiceHedge serviceHedge) {
+			this.attempt = attempt;
+			this.serviceHedge = serviceHedge;
+		}
+		
+		private void run(final boolean hedge) {
+			final long start = System.nanoTime();
+			if (!hedge)
+				this.started.complete(start);
+			try {
+				final T value = this.exclusions.callWith(this.attempt);
+				this.serviceHedge.record(System.nanoTime() - start);
+				if (this.result.complete(value) && hedge)
+					this.serviceHedge.wins.increment();
+			}
+			catch (RuntimeException e) {
+				this.lastFailure = e;
+				if (this.failures.incrementAndGet() >= this.attempts.get())
+					this.result.completeExceptionally(e);
+			}
+		}
+		
+		private void abandonAttempt() {
+			final var failure = this.lastFailure;
+			if (this.attempts.decrementAndGet() <= this.failures.get() && failure != null)
+				this.result.completeExceptionally(failure);
+		}
+		
+	}
+	
+}
+
+
+
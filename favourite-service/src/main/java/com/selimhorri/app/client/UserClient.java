@@ -0,0 +1,132 @@
+package com.selimhorri.app.client;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.selimhorri.app.config.client.ClientProperties;
+import com.selimhorri.app.config.client.UserCacheProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.PartitionHelper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class UserClient {
+	
+	private static final String SERVICE_ID = "USER-SERVICE";
+	private static final String CACHE_NAME = "users";
+	private static final ParameterizedTypeReference<DtoCollectionResponse<UserDto>> USER_COLLECTION_TYPE = 
+			new ParameterizedTypeReference<>() {};
+	
+	private final RestTemplate restTemplate;
+	private final ClientProperties clientProperties;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final RequestHedger requestHedger;
+	private final LoadingCache<Integer, UserDto> userCache;
+	
+	public UserClient(final RestTemplate restTemplate, final ClientProperties clientProperties, 
+			final EnrichmentExecutor enrichmentExecutor, final RequestHedger requestHedger, 
+			final UserCacheProperties userCacheProperties, final MeterRegistry meterRegistry) {
+		this.restTemplate = restTemplate;
+		this.clientProperties = clientProperties;
+		this.enrichmentExecutor = enrichmentExecutor;
+		this.requestHedger = requestHedger;
+		this.userCache = Caffeine.newBuilder()
+				.maximumSize(userCacheProperties.getMaximumSize())
+				.expireAfterWrite(userCacheProperties.getExpireAfterWrite())
+				.refreshAfterWrite(userCacheProperties.getRefreshAfterWrite())
+				.executor(enrichmentExecutor)
+				.recordStats()
+				.build(this::fetchById);
+		CaffeineCacheMetrics.monitor(meterRegistry, this.userCache, CACHE_NAME);
+		Gauge.builder("cache.hit.ratio", this.userCache, c -> c.stats().hitRate())
+				.tag("cache", CACHE_NAME)
+				.register(meterRegistry);
+	}
+	
+	public UserDto findById(final Integer userId) {
+		final var cached = this.userCache.getIfPresent(userId);
+		if (cached != null)
+			return cached;
+		return this.enrichmentExecutor.await(this.enrichmentExecutor.supplyAsync(SERVICE_ID, 
+				() -> this.userCache.get(userId), 
+				() -> UserDto.builder().userId(userId).build()));
+	}
+	
+	public Map<Integer, UserDto> findAllById(final Collection<Integer> userIds) {
+		return this.enrichmentExecutor.await(this.findAllByIdAsync(userIds));
+	}
+	
+	public CompletableFuture<Map<Integer, UserDto>> findAllByIdAsync(final Collection<Integer> userIds) {
+		
+		final var distinctUserIds = userIds.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+		final var cachedUsers = this.userCache.getAllPresent(distinctUserIds);
+		final var missingUserIds = distinctUserIds.stream()
+				.filter(userId -> !cachedUsers.containsKey(userId))
+				.collect(Collectors.toUnmodifiableList());
+		final var chunks = PartitionHelper.partition(missingUserIds, this.clientProperties.getUserBatchSize());
+		log.info("*** Map, client; {} users cached, fetch {} in {} batch call(s) *", 
+				cachedUsers.size(), missingUserIds.size(), chunks.size());
+		
+		final var lookups = chunks.stream()
+				.map(chunk -> this.enrichmentExecutor.supplyAsync(SERVICE_ID, () -> this.fetchChunk(chunk), List::<UserDto>of))
+				.collect(Collectors.toUnmodifiableList());
+		
+		return CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new))
+				.thenApply(v -> {
+					final Map<Integer, UserDto> fetchedUsers = new HashMap<>(missingUserIds.size());
+					lookups.forEach(lookup -> lookup.join().forEach(u -> fetchedUsers.put(u.getUserId(), u)));
+					this.userCache.putAll(fetchedUsers);
+					final Map<Integer, UserDto> users = new HashMap<>(cachedUsers);
+					users.putAll(fetchedUsers);
+					return users;
+				});
+	}
+	
+	private UserDto fetchById(final Integer userId) {
+		return this.requestHedger.call(SERVICE_ID, () -> this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+				.USER_SERVICE_API_URL + "/" + userId, UserDto.class));
+	}
+	
+	private Collection<UserDto> fetchChunk(final List<Integer> chunk) {
+		final var ids = chunk.stream().map(String::valueOf).collect(Collectors.joining(","));
+		final var response = this.requestHedger.call(SERVICE_ID, () -> this.restTemplate.exchange(
+				AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/batch?ids={ids}", 
+				HttpMethod.GET, null, USER_COLLECTION_TYPE, ids)
+			.getBody());
+		return (response != null && response.getCollection() != null) ? response.getCollection() : List.of();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
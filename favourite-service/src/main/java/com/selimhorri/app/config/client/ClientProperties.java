@@ -0,0 +1,24 @@
+package com.selimhorri.app.config.client;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.client")
+@Data
+public class ClientProperties {
+	
+	private int userBatchSize = 100;
+	private int productBatchSize = 100;
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,27 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.hedging")
+@Data
+public class HedgingProperties {
+	
+	private boolean enabled = false;
+	private double percentile = 0.95D;
+	private Duration minDelay = Duration.ofMillis(5);
+	private Duration maxDelay = Duration.ofMillis(500);
+	private int windowSize = 256;
+	private int minSamples = 32;
+	private double budgetRatio = 0.05D;
+	private int maxBudget = 10;
+	private int poolSize = 16;
+	private int queueCapacity = 256;
+	
+}
+
+
+
@@ -0,0 +1,27 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.near-cache.users")
+@Data
+public class UserCacheProperties {
+	
+	private long maximumSize = 10_000;
+	private Duration expireAfterWrite = Duration.ofMinutes(10);
+	private Duration refreshAfterWrite = Duration.ofMinutes(1);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,23 @@
+package com.selimhorri.app.config.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+	
+	private boolean enabled = true;
+	private int initialLimit = 20;
+	private int minLimit = 4;
+	private int maxLimit = 200;
+	private double smoothing = 0.2D;
+	private double rttTolerance = 1.5D;
+	private int longWindow = 600;
+	private double backoffRatio = 0.9D;
+	
+}
+
+
+
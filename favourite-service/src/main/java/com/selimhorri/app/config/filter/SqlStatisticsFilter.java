@@ -0,0 +1,230 @@
+package com.selimhorri.app.config.filter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Optional;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.UrlPathHelper;
+
+import com.selimhorri.app.config.jpa.SqlStatistics;
+import com.selimhorri.app.config.jpa.SqlStatisticsProperties;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@ConditionalOnProperty(prefix = "app.sql-statistics", name = "enabled", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+	
+	static final String COUNT_HEADER = "X-SQL-Count";
+	static final String TIME_HEADER = "X-SQL-Time";
+	
+	private final AntPathMatcher pathMatcher = new AntPathMatcher();
+	private final SqlStatisticsProperties sqlStatisticsProperties;
+	private final MeterRegistry meterRegistry;
+	
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) 
+			throws ServletException, IOException {
+		
+		final var statistics = new SqlStatistics();
+		final var responseWrapper = (this.isHeadersEnabled(request)) ? 
+				new SqlStatisticsResponseWrapper(response, statistics) 
+				: null;
+		
+		SqlStatistics.bind(statistics);
+		try {
+			filterChain.doFilter(request, (responseWrapper != null) ? responseWrapper : response);
+		}
+		finally {
+			SqlStatistics.unbind();
+			if (!isAsyncStarted(request)) {
+				this.record(request, statistics);
+				if (responseWrapper != null)
+					responseWrapper.writeStatisticsHeaders();
+			}
+		}
+	}
+	
+	private boolean isHeadersEnabled(final HttpServletRequest request) {
+		final var path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+		return this.sqlStatisticsProperties.isHeadersEnabled() 
+				&& this.sqlStatisticsProperties.getHeadersExcludedPaths().stream()
+						.noneMatch(pattern -> this.pathMatcher.match(pattern, path));
+	}
+	
+	private void record(final HttpServletRequest request, final SqlStatistics statistics) {
+		final var tags = Tags.of("method", request.getMethod(), 
+				"uri", Optional.ofNullable(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE))
+						.map(Object::toString)
+						.orElse("UNKNOWN"));
+		DistributionSummary.builder("http.server.requests.sql.statements")
+				.baseUnit("statements")
+				.tags(tags)
+				.register(this.meterRegistry)
+				.record(statistics.getStatementCount());
+		DistributionSummary.builder("http.server.requests.sql.entity.loads")
+				.baseUnit("entities")
+				.tags(tags)
+				.register(this.meterRegistry)
+				.record(statistics.getEntityLoadCount());
+		DistributionSummary.builder("http.server.requests.sql.time")
+				.baseUnit("milliseconds")
+				.tags(tags)
+				.register(this.meterRegistry)
+				.record(statistics.getJdbcMillis());
+	}
+	
+	private static final class SqlStatisticsResponseWrapper extends HttpServletResponseWrapper {
+		
+		private final SqlStatistics statistics;
+		private final Thread requestThread = Thread.currentThread();
+		private boolean headersWritten;
+		private ServletOutputStream outputStream;
+		private PrintWriter writer;
+		
+		SqlStatisticsResponseWrapper(final HttpServletResponse response, final SqlStatistics statistics) {
+			super(response);
+			this.statistics = statistics;
+		}
+		
+		void writeStatisticsHeaders() {
+			if (this.headersWritten || Thread.currentThread() != this.requestThread)
+				return;
+			this.headersWritten = true;
+			if (!this.isCommitted()) {
+				this.setHeader(COUNT_HEADER, String.valueOf(this.statistics.getStatementCount()));
+				this.setHeader(TIME_HEADER, String.format("%.3f", this.statistics.getJdbcMillis()));
+			}
+		}
+		
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			if (this.outputStream == null)
+				this.outputStream = new SqlStatisticsOutputStream(super.getOutputStream());
+			return this.outputStream;
+		}
+		
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			if (this.writer == null)
+				this.writer = new PrintWriter(new SqlStatisticsWriter(super.getWriter()));
+			return this.writer;
+		}
+		
+		@Override
+		public void flushBuffer() throws IOException {
+			this.writeStatisticsHeaders();
+			super.flushBuffer();
+		}
+		
+		@Override
+		public void sendError(final int sc) throws IOException {
+			this.writeStatisticsHeaders();
+			super.sendError(sc);
+		}
+		
+		@Override
+		public void sendError(final int sc, final String msg) throws IOException {
+			this.writeStatisticsHeaders();
+			super.sendError(sc, msg);
+		}
+		
+		@Override
+		public void sendRedirect(final String location) throws IOException {
+			this.writeStatisticsHeaders();
+			super.sendRedirect(location);
+		}
+		
+		private final class SqlStatisticsOutputStream extends ServletOutputStream {
+			
+			private final ServletOutputStream delegate;
+			
+			SqlStatisticsOutputStream(final ServletOutputStream delegate) {
+				this.delegate = delegate;
+			}
+			
+			@Override
+			public void write(final int b) throws IOException {
+				writeStatisticsHeaders();
+				this.delegate.write(b);
+			}
+			
+			@Override
+			public void write(final byte[] buffer, final int offset, final int length) throws IOException {
+				writeStatisticsHeaders();
+				this.delegate.write(buffer, offset, length);
+			}
+			
+			@Override
+			public void flush() throws IOException {
+				writeStatisticsHeaders();
+				this.delegate.flush();
+			}
+			
+			@Override
+			public void close() throws IOException {
+				writeStatisticsHeaders();
+				this.delegate.close();
+			}
+			
+			@Override
+			public boolean isReady() {
+				return this.delegate.isReady();
+			}
+			
+			@Override
+			public void setWriteListener(final WriteListener writeListener) {
+				this.delegate.setWriteListener(writeListener);
+			}
+			
+		}
+		
+		private final class SqlStatisticsWriter extends Writer {
+			
+			private final Writer delegate;
+			
+			SqlStatisticsWriter(final Writer delegate) {
+				this.delegate = delegate;
+			}
+			
+			@Override
+			public void write(final char[] buffer, final int offset, final int length) throws IOException {
+				writeStatisticsHeaders();
+				this.delegate.write(buffer, offset, length);
+			}
+			
+			@Override
+			public void flush() throws IOException {
+				writeStatisticsHeaders();
+				this.delegate.flush();
+			}
+			
+			@Override
+			public void close() throws IOException {
+				writeStatisticsHeaders();
+				this.delegate.close();
+			}
+			
+		}
+		
+	}
+	
+}
@@ -0,0 +1,145 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.TimedRequestContext;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import reactor.core.publisher.Mono;
+
+public class LatencyAwareLoadBalancer 
+		implements ReactorServiceInstanceLoadBalancer, LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+	
+	private final Map<String, InstanceLoad> loads = new ConcurrentHashMap<>();
+	private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+	private final String serviceId;
+	private final LatencyAwareLoadBalancerProperties latencyAwareLoadBalancerProperties;
+	private final MeterRegistry meterRegistry;
+	
+	public LatencyAwareLoadBalancer(final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider, 
+			final String serviceId, 
+			final LatencyAwareLoadBalancerProperties latencyAwareLoadBalancerProperties, 
+			final MeterRegistry meterRegistry) {
+		this.serviceInstanceListSupplierProvider = serviceInstanceListSupplierProvider;
+		this.serviceId = serviceId;
+		this.latencyAwareLoadBalancerProperties = latencyAwareLoadBalancerProperties;
+		this.meterRegistry = meterRegistry;
+	}
+	
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Mono<Response<ServiceInstance>> choose(final Request request) {
+		final var supplier = this.serviceInstanceListSupplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+		final var exclusions = InstanceExclusions.current();
+		return supplier.get(request)
+				.next()
+				.map(instances -> this.select(supplier, instances, exclusions));
+	}
+	
+	private Response<ServiceInstance> select(final ServiceInstanceListSupplier supplier, 
+			final List<ServiceInstance> instances, final InstanceExclusions exclusions) {
+		
+		if (instances.isEmpty())
+			return new EmptyResponse();
+		if (this.loads.size() > instances.size())
+			this.evictAbsent(instances);
+		
+		final var candidates = (exclusions != null) ? exclusions.filter(instances) : instances;
+		final var instance = (candidates.size() == 1) ? candidates.get(0) : this.chooseLessLoaded(candidates);
+		if (exclusions != null)
+			exclusions.exclude(instance);
+		if (supplier instanceof SelectedInstanceCallback)
+			((SelectedInstanceCallback) supplier).selectedServiceInstance(instance);
+		return new DefaultResponse(instance);
+	}
+	
+	private ServiceInstance chooseLessLoaded(final List<ServiceInstance> instances) {
+		final var random = ThreadLocalRandom.current();
+		final int first = random.nextInt(instances.size());
+		int second = random.nextInt(instances.size() - 1);
+		if (second >= first)
+			second++;
+		final var firstInstance = instances.get(first);
+		final var secondInstance = instances.get(second);
+		return (this.loadOf(secondInstance).getCost() < this.loadOf(firstInstance).getCost()) ? 
+				secondInstance : firstInstance;
+	}
+	
+	public InstanceLoad loadOf(final ServiceInstance instance) {
+		return this.loads.computeIfAbsent(keyOf(instance), key -> {
+			final var load = new InstanceLoad(this.latencyAwareLoadBalancerProperties.getDecayTime().toNanos());
+			load.register(this.meterRegistry, Tags.of("service", this.serviceId, "instance", key));
+			return load;
+		});
+	}
+	
+	private void evictAbsent(final List<ServiceInstance> instances) {
+		final var present = new HashSet<String>(instances.size());
+		instances.forEach(instance -> present.add(keyOf(instance)));
+		this.loads.entrySet().removeIf(entry -> {
+			if (present.contains(entry.getKey()))
+				return false;
+			entry.getValue().unregister(this.meterRegistry);
+			return true;
+		});
+	}
+	
+	@Override
+	public void onStart(final Request<Object> request) {
+		
+	}
+	
+	@Override
+	public void onStartRequest(final Request<Object> request, final Response<ServiceInstance> lbResponse) {
+		if (lbResponse == null || !lbResponse.hasServer())
+			return;
+		if (request.getContext() instanceof TimedRequestContext)
+			((TimedRequestContext) request.getContext()).setRequestStartTime(System.nanoTime());
+		this.loadOf(lbResponse.getServer()).start();
+	}
+	
+	@Override
+	public void onComplete(final CompletionContext<Object, ServiceInstance, Object> completionContext) {
+		
+		final var lbResponse = completionContext.getLoadBalancerResponse();
+		if (completionContext.status() == CompletionContext.Status.DISCARD 
+				|| lbResponse == null || !lbResponse.hasServer())
+			return;
+		
+		final var request = completionContext.getLoadBalancerRequest();
+		final var context = (request != null) ? request.getContext() : null;
+		long elapsedNanos = -1L;
+		if (context instanceof TimedRequestContext && ((TimedRequestContext) context).getRequestStartTime() != 0L)
+			elapsedNanos = System.nanoTime() - ((TimedRequestContext) context).getRequestStartTime();
+		if (completionContext.status() == CompletionContext.Status.FAILED)
+			elapsedNanos = Math.max(elapsedNanos, this.latencyAwareLoadBalancerProperties.getFailurePenalty().toNanos());
+		
+		this.loadOf(lbResponse.getServer()).complete(elapsedNanos);
+	}
+	
+	static String keyOf(final ServiceInstance instance) {
+		return (instance.getInstanceId() != null) ? 
+				instance.getInstanceId() : instance.getHost() + ":" + instance.getPort();
+	}
+	
+}
+
+
+
@@ -0,0 +1,19 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.load-balancer")
+public class LatencyAwareLoadBalancerProperties {
+	
+	private Duration decayTime = Duration.ofSeconds(10);
+	private Duration failurePenalty = Duration.ofSeconds(1);
+	
+}
+
+
+
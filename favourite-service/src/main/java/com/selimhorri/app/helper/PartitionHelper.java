@@ -0,0 +1,30 @@
+package com.selimhorri.app.helper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public interface PartitionHelper {
+	
+	public static <T> List<List<T>> partition(final Collection<T> elements, final int size) {
+		
+		if (size < 1)
+			throw new IllegalArgumentException("Partition size must be positive");
+		
+		final List<T> source = List.copyOf(elements);
+		final List<List<T>> partitions = new ArrayList<>((source.size() + size - 1) / size);
+		for (int from = 0; from < source.size(); from += size)
+			partitions.add(source.subList(from, Math.min(from + size, source.size())));
+		
+		return partitions;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
@@ -4,15 +4,15 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
+import javax.transaction.Transactional.TxType;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.client.EnrichmentExecutor;
+import com.selimhorri.app.client.ProductClient;
+import com.selimhorri.app.client.UserClient;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
-import com.selimhorri.app.dto.ProductDto;
-import com.selimhorri.app.dto.UserDto;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.helper.FavouriteMappingHelper;
 import com.selimhorri.app.repository.FavouriteRepository;
@@ -28,21 +28,29 @@ import lombok.extern.slf4j.Slf4j;
 public class FavouriteServiceImpl implements FavouriteService {
 	
 	private final FavouriteRepository favouriteRepository;
-	private final RestTemplate restTemplate;
+	private final UserClient userClient;
+	private final ProductClient productClient;
+	private final EnrichmentExecutor enrichmentExecutor;
 	
 	@Override
+	@Transactional(TxType.NOT_SUPPORTED)
 	public List<FavouriteDto> findAll() {
 		log.info("*** FavouriteDto List, service; fetch all favourites *");
-		return this.favouriteRepository.findAll()
+		final var favouriteDtos = this.favouriteRepository.findAll()
 				.stream()
 					.map(FavouriteMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+		final var userDtos = this.userClient.findAllByIdAsync(favouriteDtos.stream()
+				.map(FavouriteDto::getUserId)
+				.collect(Collectors.toUnmodifiableList()));
+		final var productDtos = this.productClient.findAllByIdAsync(favouriteDtos.stream()
+				.map(FavouriteDto::getProductId)
+				.collect(Collectors.toUnmodifiableList()));
+		this.enrichmentExecutor.awaitAll(List.of(userDtos, productDtos));
+		return favouriteDtos.stream()
 					.map(f -> {
-						f.setUserDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-						f.setProductDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
+						f.setUserDto(userDtos.join().getOrDefault(f.getUserId(), f.getUserDto()));
+						f.setProductDto(productDtos.join().getOrDefault(f.getProductId(), f.getProductDto()));
 						return f;
 					})
 					.distinct()
@@ -55,12 +63,8 @@ public class FavouriteServiceImpl implements FavouriteService {
 		return this.favouriteRepository.findById(favouriteId)
 				.map(FavouriteMappingHelper::map)
 				.map(f -> {
-					f.setUserDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-					f.setProductDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
+					f.setUserDto(this.userClient.findById(f.getUserId()));
+					f.setProductDto(this.productClient.findById(f.getProductId()));
 					return f;
 				})
 				.orElseThrow(() -> new FavouriteNotFoundException(
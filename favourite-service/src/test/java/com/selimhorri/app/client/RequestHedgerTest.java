@@ -0,0 +1,291 @@
+package com.selimhorri.app.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.config.client.HedgingProperties;
+import com.selimhorri.app.config.loadbalancer.InstanceExclusions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RequestHedgerTest {
+
+    private static final String SERVICE = "ORDER-SERVICE";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HedgingProperties properties = new HedgingProperties();
+    private RequestHedger hedger;
+
+    private RequestHedger hedger() {
+        properties.setEnabled(true);
+        properties.setMinDelay(Duration.ofMillis(1));
+        properties.setMaxDelay(Duration.ofMillis(50));
+        properties.setMinSamples(1_000);
+        hedger = new RequestHedger(properties, meterRegistry);
+        return hedger;
+    }
+
+    private double count(final String name, final String service) {
+        return meterRegistry.get("hedging." + name).tag("service", service).counter().count();
+    }
+
+    private double awaitCount(final String name, final String service, final double expected) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (count(name, service) < expected && System.nanoTime() < deadline)
+            sleep(5);
+        return count(name, service);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (hedger != null)
+            hedger.destroy();
+    }
+
+    @Test
+    void shouldCallInlineWhenDisabled() {
+        // Given
+        hedger = new RequestHedger(properties, meterRegistry);
+        final var caller = Thread.currentThread();
+
+        // When
+        final var thread = hedger.call(SERVICE, Thread::currentThread);
+
+        // Then
+        assertFalse(properties.isEnabled());
+        assertSame(caller, thread);
+    }
+
+    @Test
+    void shouldNotHedgeFastPrimary() {
+        // Given
+        hedger();
+
+        // When
+        final var result = hedger.call(SERVICE, () -> "primary");
+
+        // Then
+        assertEquals("primary", result);
+        assertEquals(0.0, count("hedges", SERVICE));
+    }
+
+    @Test
+    void shouldHedgeSlowPrimaryOnAnotherInstance() {
+        // Given
+        hedger();
+        final var attempts = new AtomicInteger();
+        final Set<InstanceExclusions> exclusions = ConcurrentHashMap.newKeySet();
+
+        // When
+        final var result = hedger.call(SERVICE, () -> {
+            exclusions.add(InstanceExclusions.current());
+            if (attempts.incrementAndGet() == 1) {
+                sleep(5_000);
+                return "primary";
+            }
+            return "hedge";
+        });
+
+        // Then
+        assertEquals("hedge", result);
+        assertEquals(1.0, count("hedges", SERVICE));
+        assertEquals(1.0, awaitCount("wins", SERVICE, 1.0));
+        assertEquals(1, exclusions.size());
+        assertNotNull(exclusions.iterator().next());
+    }
+
+    @Test
+    void shouldWaitForHedgeWhenPrimaryFailsFirst() {
+        // Given
+        hedger();
+        final var attempts = new AtomicInteger();
+
+        // When
+        final var result = hedger.call(SERVICE, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                sleep(100);
+                throw new IllegalStateException("primary failed");
+            }
+            sleep(200);
+            return "hedge";
+        });
+
+        // Then
+        assertEquals("hedge", result);
+    }
+
+    @Test
+    void shouldFailOnlyAfterEveryAttemptFailed() {
+        // Given
+        hedger();
+        final var attempts = new AtomicInteger();
+
+        // When
+        final var e = assertThrows(IllegalStateException.class, () -> hedger.call(SERVICE, () -> {
+            final int attempt = attempts.incrementAndGet();
+            sleep(100);
+            throw new IllegalStateException("attempt " + attempt);
+        }));
+
+        // Then
+        assertEquals(2, attempts.get());
+        assertTrue(e.getMessage().startsWith("attempt"));
+    }
+
+    @Test
+    void shouldStopHedgingWhenBudgetIsExhausted() {
+        // Given
+        properties.setMaxBudget(1);
+        properties.setBudgetRatio(0.0D);
+        hedger();
+
+        // When
+        hedger.call(SERVICE, () -> {
+            sleep(100);
+            return "first";
+        });
+        hedger.call(SERVICE, () -> {
+            sleep(100);
+            return "second";
+        });
+
+        // Then
+        assertEquals(1.0, count("hedges", SERVICE));
+        assertEquals(1.0, count("budget.exhausted", SERVICE));
+    }
+
+    @Test
+    void shouldNotCountQueueTimeTowardsHedgeDelay() throws Exception {
+        // Given
+        properties.setPoolSize(1);
+        hedger();
+        properties.setMaxDelay(Duration.ofMillis(500));
+        final var blockerRunning = new CountDownLatch(1);
+        final var releaseBlocker = new CountDownLatch(1);
+        final var blocker = CompletableFuture.supplyAsync(() -> hedger.call("USER-SERVICE", () -> {
+            blockerRunning.countDown();
+            try {
+                releaseBlocker.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "blocker";
+        }));
+        assertTrue(blockerRunning.await(1, TimeUnit.SECONDS));
+
+        // When
+        final var queued = CompletableFuture.supplyAsync(() -> hedger.call(SERVICE, () -> "queued"));
+        sleep(200);
+        releaseBlocker.countDown();
+
+        // Then
+        assertEquals("queued", queued.get(1, TimeUnit.SECONDS));
+        assertEquals("blocker", blocker.get(1, TimeUnit.SECONDS));
+        assertEquals(0.0, count("hedges", SERVICE));
+        assertEquals(0.0, count("hedges", "USER-SERVICE"));
+        assertEquals(0.0, count("saturated", SERVICE));
+    }
+
+    @Test
+    void shouldSkipHedgeWhileTasksAreQueued() throws Exception {
+        // Given
+        properties.setPoolSize(1);
+        hedger();
+        properties.setMaxDelay(Duration.ofMillis(200));
+        final var blockerRunning = new CountDownLatch(1);
+        final var blocker = CompletableFuture.supplyAsync(() -> hedger.call("USER-SERVICE", () -> {
+            blockerRunning.countDown();
+            sleep(400);
+            return "blocker";
+        }));
+        assertTrue(blockerRunning.await(1, TimeUnit.SECONDS));
+
+        // When
+        final var queued = CompletableFuture.supplyAsync(() -> hedger.call(SERVICE, () -> "queued"));
+
+        // Then
+        assertEquals("blocker", blocker.get(1, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(1, TimeUnit.SECONDS));
+        assertEquals(0.0, count("hedges", "USER-SERVICE"));
+        assertEquals(1.0, count("saturated", "USER-SERVICE"));
+    }
+
+    @Test
+    void shouldCallInlineWhenPrimaryCannotStartWithinMaxDelay() throws Exception {
+        // Given
+        properties.setPoolSize(1);
+        hedger();
+        final var blockerRunning = new CountDownLatch(1);
+        final var releaseBlocker = new CountDownLatch(1);
+        final var blocker = CompletableFuture.supplyAsync(() -> hedger.call("USER-SERVICE", () -> {
+            blockerRunning.countDown();
+            try {
+                releaseBlocker.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "blocker";
+        }));
+        assertTrue(blockerRunning.await(1, TimeUnit.SECONDS));
+        final var caller = new AtomicReference<Thread>();
+        final var attempts = new AtomicInteger();
+
+        // When
+        final var thread = assertTimeoutPreemptively(Duration.ofSeconds(1), () -> {
+            caller.set(Thread.currentThread());
+            return hedger.call(SERVICE, () -> {
+                attempts.incrementAndGet();
+                return Thread.currentThread();
+            });
+        });
+        releaseBlocker.countDown();
+
+        // Then
+        assertSame(caller.get(), thread);
+        assertEquals(1.0, count("saturated", SERVICE));
+        assertEquals("blocker", blocker.get(1, TimeUnit.SECONDS));
+        sleep(100);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void shouldAdaptDelayToObservedPercentile() {
+        // Given
+        properties.setWindowSize(64);
+        hedger();
+        properties.setMinSamples(32);
+
+        // When
+        for (int i = 0; i < 64; i++)
+            hedger.call(SERVICE, () -> "fast");
+
+        // Then
+        final double delaySeconds = meterRegistry.get("hedging.delay").tag("service", SERVICE).gauge().value();
+        assertTrue(delaySeconds < properties.getMaxDelay().toNanos() / 1e9, "delay " + delaySeconds);
+        assertTrue(delaySeconds >= properties.getMinDelay().toNanos() / 1e9, "delay " + delaySeconds);
+    }
+
+}
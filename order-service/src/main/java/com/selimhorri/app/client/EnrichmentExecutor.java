@@ -0,0 +1,169 @@
+package com.selimhorri.app.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.selimhorri.app.config.client.EnrichmentProperties;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class EnrichmentExecutor implements Executor, DisposableBean {
+	
+	private static final String METRIC_PREFIX = "enrichment";
+	
+	private final EnrichmentProperties enrichmentProperties;
+	private final BulkheadRegistry bulkheadRegistry;
+	private final TimeLimiterRegistry timeLimiterRegistry;
+	private final MeterRegistry meterRegistry;
+	private final ThreadPoolExecutor threadPoolExecutor;
+	private final ExecutorService executorService;
+	private final ScheduledExecutorService timeoutScheduler;
+	private final Map<String, Bulkhead> bulkheads = new ConcurrentHashMap<>();
+	private final Map<String, TimeLimiter> timeLimiters = new ConcurrentHashMap<>();
+	
+	public EnrichmentExecutor(final EnrichmentProperties enrichmentProperties, final BulkheadRegistry bulkheadRegistry, 
+			final TimeLimiterRegistry timeLimiterRegistry, final MeterRegistry meterRegistry) {
+		this.enrichmentProperties = enrichmentProperties;
+		this.bulkheadRegistry = bulkheadRegistry;
+		this.timeLimiterRegistry = timeLimiterRegistry;
+		this.meterRegistry = meterRegistry;
+		this.threadPoolExecutor = new ThreadPoolExecutor(
+				enrichmentProperties.getPoolSize(), 
+				enrichmentProperties.getPoolSize(), 
+				60L, TimeUnit.SECONDS, 
+				new LinkedBlockingQueue<>(enrichmentProperties.getQueueCapacity()), 
+				new CustomizableThreadFactory(METRIC_PREFIX + "-"), 
+				new ThreadPoolExecutor.CallerRunsPolicy());
+		this.executorService = ExecutorServiceMetrics.monitor(meterRegistry, this.threadPoolExecutor, METRIC_PREFIX);
+		this.timeoutScheduler = Executors.newSingleThreadScheduledExecutor(
+				new CustomizableThreadFactory(METRIC_PREFIX + "-timeout-"));
+	}
+	
+	public <T> CompletableFuture<T> supplyAsync(final String service, final Supplier<T> call) {
+		
+		final var bulkhead = this.bulkheads.computeIfAbsent(service, this::registerBulkhead);
+		final var timeLimiter = this.timeLimiters.computeIfAbsent(service, this::registerTimeLimiter);
+		
+		return timeLimiter.executeCompletionStage(this.timeoutScheduler, Bulkhead.decorateCompletionStage(bulkhead, 
+					() -> CompletableFuture.supplyAsync(call, this.executorService)))
+				.toCompletableFuture();
+	}
+	
+	public <T> CompletableFuture<T> supplyAsync(final String service, final Supplier<T> call, final Supplier<T> fallback) {
+		return this.supplyAsync(service, call)
+				.exceptionally(e -> {
+					final var cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+					if (cause instanceof HttpClientErrorException)
+						throw (e instanceof CompletionException) ? (CompletionException) e : new CompletionException(cause);
+					log.warn("*** T, enrichment; {} lookup degraded to partial result: {} *", service, cause.toString());
+					this.meterRegistry.counter(METRIC_PREFIX + ".fallbacks", 
+							"service", service, "cause", cause.getClass().getSimpleName())
+						.increment();
+					return fallback.get();
+				});
+	}
+	
+	public void awaitAll(final Collection<? extends CompletableFuture<?>> futures) {
+		try {
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		}
+		catch (CompletionException e) {
+			log.error("*** Void, enrichment; remote lookup failed: {} *", e.getCause().toString());
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw e;
+		}
+	}
+	
+	public <T> T await(final CompletableFuture<T> future) {
+		this.awaitAll(List.of(future));
+		return future.join();
+	}
+	
+	@Override
+	public void execute(final Runnable command) {
+		this.executorService.execute(command);
+	}
+	
+	private Bulkhead registerBulkhead(final String service) {
+		final var name = instanceName(service);
+		final var bulkhead = this.bulkheadRegistry.find(name)
+				.orElseGet(() -> this.bulkheadRegistry.bulkhead(name, BulkheadConfig.custom()
+						.maxConcurrentCalls(this.enrichmentProperties.getMaxInFlightPerService())
+						.maxWaitDuration(Duration.ZERO)
+						.build()));
+		Gauge.builder(METRIC_PREFIX + ".in.flight", bulkhead, 
+					b -> b.getMetrics().getMaxAllowedConcurrentCalls() - b.getMetrics().getAvailableConcurrentCalls())
+				.tag("service", service)
+				.register(this.meterRegistry);
+		return bulkhead;
+	}
+	
+	private TimeLimiter registerTimeLimiter(final String service) {
+		final var name = instanceName(service);
+		return this.timeLimiterRegistry.find(name)
+				.orElseGet(() -> this.timeLimiterRegistry.timeLimiter(name, TimeLimiterConfig.custom()
+						.timeoutDuration(this.enrichmentProperties.getTimeout())
+						.cancelRunningFuture(true)
+						.build()));
+	}
+	
+	private static String instanceName(final String service) {
+		final var words = service.toLowerCase(Locale.ROOT).split("-");
+		return words[0] + Arrays.stream(words, 1, words.length)
+				.map(StringUtils::capitalize)
+				.collect(Collectors.joining());
+	}
+	
+	@Override
+	public void destroy() {
+		this.timeoutScheduler.shutdown();
+		this.threadPoolExecutor.shutdown();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,52 @@
+package com.selimhorri.app.client;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.annotation.RequestScope;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequestScope
+@RequiredArgsConstructor
+public class LookupMemo {
+	
+	private static final String METRIC_NAME = "lookup.memo.requests";
+	
+	private final MeterRegistry meterRegistry;
+	private final Map<Map.Entry<String, Object>, CompletableFuture<?>> lookups = new ConcurrentHashMap<>();
+	
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> computeIfAbsent(final String service, final Object id, 
+			final Supplier<CompletableFuture<T>> lookup) {
+		
+		final var miss = new AtomicBoolean();
+		final var future = this.lookups.computeIfAbsent(Map.entry(service, id), k -> {
+			miss.set(true);
+			return lookup.get();
+		});
+		this.meterRegistry.counter(METRIC_NAME, "service", service, "result", miss.get() ? "miss" : "hit")
+				.increment();
+		
+		return (CompletableFuture<T>) future;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
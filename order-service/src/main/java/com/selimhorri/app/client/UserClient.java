@@ -0,0 +1,84 @@
+package com.selimhorri.app.client;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.selimhorri.app.config.client.UserCacheProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.UserDto;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class UserClient {
+	
+	private static final String SERVICE_ID = "USER-SERVICE";
+	private static final String CACHE_NAME = "users";
+	
+	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final LookupMemo lookupMemo;
+	private final LoadingCache<Integer, UserDto> userCache;
+	
+	public UserClient(final RestTemplate restTemplate, final EnrichmentExecutor enrichmentExecutor, 
+			final LookupMemo lookupMemo, final UserCacheProperties userCacheProperties, final MeterRegistry meterRegistry) {
+		this.restTemplate = restTemplate;
+		this.enrichmentExecutor = enrichmentExecutor;
+		this.lookupMemo = lookupMemo;
+		this.userCache = Caffeine.newBuilder()
+				.maximumSize(userCacheProperties.getMaximumSize())
+				.expireAfterWrite(userCacheProperties.getExpireAfterWrite())
+				.refreshAfterWrite(userCacheProperties.getRefreshAfterWrite())
+				.executor(enrichmentExecutor)
+				.recordStats()
+				.build(this::fetchById);
+		CaffeineCacheMetrics.monitor(meterRegistry, this.userCache, CACHE_NAME);
+		Gauge.builder("cache.hit.ratio", this.userCache, c -> c.stats().hitRate())
+				.tag("cache", CACHE_NAME)
+				.register(meterRegistry);
+	}
+	
+	public UserDto findById(final Integer userId) {
+		final var cached = this.userCache.getIfPresent(userId);
+		if (cached != null)
+			return cached;
+		return this.enrichmentExecutor.await(this.lookup(userId));
+	}
+	
+	public CompletableFuture<UserDto> findByIdAsync(final Integer userId) {
+		final var cached = this.userCache.getIfPresent(userId);
+		if (cached != null)
+			return CompletableFuture.completedFuture(cached);
+		return this.lookupMemo.computeIfAbsent(SERVICE_ID, userId, () -> this.lookup(userId));
+	}
+	
+	private CompletableFuture<UserDto> lookup(final Integer userId) {
+		return this.enrichmentExecutor.supplyAsync(SERVICE_ID, 
+				() -> this.userCache.get(userId), 
+				() -> UserDto.builder().userId(userId).build());
+	}
+	
+	private UserDto fetchById(final Integer userId) {
+		return this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+				.USER_SERVICE_API_URL + "/" + userId, UserDto.class);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
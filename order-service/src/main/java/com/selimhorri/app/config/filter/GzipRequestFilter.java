@@ -0,0 +1,170 @@
+package com.selimhorri.app.config.filter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.server.ResponseStatusException;
+
+@Component
+public class GzipRequestFilter extends OncePerRequestFilter {
+	
+	private static final String GZIP = "gzip";
+	
+	private final long maxInflatedSize;
+	
+	public GzipRequestFilter(@Value("${server.tomcat.max-http-form-post-size:2MB}") final DataSize maxInflatedSize) {
+		this.maxInflatedSize = (maxInflatedSize.isNegative()) ? Long.MAX_VALUE : maxInflatedSize.toBytes();
+	}
+	
+	@Override
+	protected boolean shouldNotFilter(final HttpServletRequest request) {
+		return !GZIP.equalsIgnoreCase(request.getHeader(HttpHeaders.CONTENT_ENCODING));
+	}
+	
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) 
+			throws ServletException, IOException {
+		filterChain.doFilter(new GzipRequestWrapper(request, this.maxInflatedSize), response);
+	}
+	
+	private static final class GzipRequestWrapper extends HttpServletRequestWrapper {
+		
+		private final long maxInflatedSize;
+		private ServletInputStream inputStream;
+		
+		GzipRequestWrapper(final HttpServletRequest request, final long maxInflatedSize) {
+			super(request);
+			this.maxInflatedSize = maxInflatedSize;
+		}
+		
+		@Override
+		public ServletInputStream getInputStream() throws IOException {
+			if (this.inputStream == null)
+				this.inputStream = new GzipServletInputStream(new GZIPInputStream(super.getInputStream()), this.maxInflatedSize);
+			return this.inputStream;
+		}
+		
+		@Override
+		public BufferedReader getReader() throws IOException {
+			return new BufferedReader(new InputStreamReader(this.getInputStream(), 
+					Optional.ofNullable(this.getCharacterEncoding()).orElse(StandardCharsets.UTF_8.name())));
+		}
+		
+		@Override
+		public int getContentLength() {
+			return -1;
+		}
+		
+		@Override
+		public long getContentLengthLong() {
+			return -1L;
+		}
+		
+		@Override
+		public String getHeader(final String name) {
+			return (isStripped(name)) ? null : super.getHeader(name);
+		}
+		
+		@Override
+		public Enumeration<String> getHeaders(final String name) {
+			return (isStripped(name)) ? Collections.emptyEnumeration() : super.getHeaders(name);
+		}
+		
+		@Override
+		public Enumeration<String> getHeaderNames() {
+			final var headerNames = Collections.list(super.getHeaderNames());
+			headerNames.removeIf(GzipRequestWrapper::isStripped);
+			return Collections.enumeration(headerNames);
+		}
+		
+		private static boolean isStripped(final String name) {
+			return HttpHeaders.CONTENT_ENCODING.equalsIgnoreCase(name) 
+					|| HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name);
+		}
+		
+	}
+	
+	private static final class GzipServletInputStream extends ServletInputStream {
+		
+		private final InputStream delegate;
+		private final long maxInflatedSize;
+		private long inflated;
+		private boolean finished;
+		
+		GzipServletInputStream(final InputStream delegate, final long maxInflatedSize) {
+			this.delegate = delegate;
+			this.maxInflatedSize = maxInflatedSize;
+		}
+		
+		@Override
+		public int read() throws IOException {
+			final int read = this.delegate.read();
+			this.finished = (read == -1);
+			if (!this.finished)
+				this.count(1);
+			return read;
+		}
+		
+		@Override
+		public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+			final int read = this.delegate.read(buffer, offset, length);
+			this.finished = (read == -1);
+			if (!this.finished)
+				this.count(read);
+			return read;
+		}
+		
+		private void count(final int read) {
+			this.inflated += read;
+			if (this.inflated > this.maxInflatedSize)
+				throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, 
+						String.format("Inflated request body exceeds %d bytes", this.maxInflatedSize));
+		}
+		
+		@Override
+		public boolean isFinished() {
+			return this.finished;
+		}
+		
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+		
+		@Override
+		public void setReadListener(final ReadListener readListener) {
+			throw new UnsupportedOperationException("Non-blocking reads are not supported for gzip request bodies");
+		}
+		
+		@Override
+		public void close() throws IOException {
+			this.delegate.close();
+		}
+		
+	}
+	
+}
+
+
+
@@ -0,0 +1,55 @@
+package com.selimhorri.app.config.jpa;
+
+import java.util.List;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(SqlStatisticsProperties.class)
+@ConditionalOnProperty(prefix = "app.sql-statistics", name = "enabled", matchIfMissing = true)
+public class SqlStatisticsConfig {
+	
+	@Bean
+	public HibernatePropertiesCustomizer sqlStatisticsHibernatePropertiesCustomizer() {
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+			hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlStatisticsSessionListener.class.getName());
+			hibernateProperties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, 
+					(IntegratorProvider) () -> List.of(new EntityLoadIntegrator()));
+		};
+	}
+	
+	private static final class EntityLoadIntegrator implements Integrator {
+		
+		@Override
+		public void integrate(final Metadata metadata, final SessionFactoryImplementor sessionFactory, 
+				final SessionFactoryServiceRegistry serviceRegistry) {
+			serviceRegistry.getService(EventListenerRegistry.class)
+					.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> SqlStatistics.entityLoaded());
+		}
+		
+		@Override
+		public void disintegrate(final SessionFactoryImplementor sessionFactory, final SessionFactoryServiceRegistry serviceRegistry) {
+			
+		}
+		
+	}
+	
+}
+
+
+
@@ -0,0 +1,40 @@
+package com.selimhorri.app.config.jpa;
+
+import org.hibernate.BaseSessionEventListener;
+
+public class SqlStatisticsSessionListener extends BaseSessionEventListener {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private long executeStart;
+	private long batchStart;
+	
+	@Override
+	public void jdbcPrepareStatementStart() {
+		SqlStatistics.statementPrepared();
+	}
+	
+	@Override
+	public void jdbcExecuteStatementStart() {
+		this.executeStart = System.nanoTime();
+	}
+	
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		SqlStatistics.statementExecuted(System.nanoTime() - this.executeStart);
+	}
+	
+	@Override
+	public void jdbcExecuteBatchStart() {
+		this.batchStart = System.nanoTime();
+	}
+	
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		SqlStatistics.statementExecuted(System.nanoTime() - this.batchStart);
+	}
+	
+}
+
+
+
@@ -0,0 +1,74 @@
+package com.selimhorri.app.dto.response.collection;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class StreamingDtoCollectionResponse<T> implements StreamingResponseBody {
+	
+	private static final String COLLECTION_FIELD = "collection";
+	
+	private final ObjectMapper objectMapper;
+	private final Consumer<Consumer<T>> source;
+	
+	public static <T> StreamingDtoCollectionResponse<T> of(final ObjectMapper objectMapper, final Consumer<Consumer<T>> source) {
+		return new StreamingDtoCollectionResponse<>(objectMapper, source);
+	}
+	
+	public static <T> StreamingDtoCollectionResponse<T> of(final ObjectMapper objectMapper, final Iterator<T> iterator) {
+		return new StreamingDtoCollectionResponse<>(objectMapper, iterator::forEachRemaining);
+	}
+	
+	public static <T> StreamingDtoCollectionResponse<T> of(final ObjectMapper objectMapper, final Stream<T> stream) {
+		return new StreamingDtoCollectionResponse<>(objectMapper, consumer -> {
+			try (stream) {
+				stream.forEachOrdered(consumer);
+			}
+		});
+	}
+	
+	@Override
+	public void writeTo(final OutputStream outputStream) throws IOException {
+		final var writer = this.objectMapper.writer()
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+				.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+				.without(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+		try (final var generator = writer.createGenerator(outputStream)) {
+			generator.writeStartObject();
+			generator.writeFieldName(COLLECTION_FIELD);
+			generator.writeStartArray();
+			try {
+				this.source.accept(dto -> {
+					try {
+						writer.writeValue(generator, dto);
+					}
+					catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+			catch (UncheckedIOException e) {
+				throw e.getCause();
+			}
+			generator.writeEndArray();
+			generator.writeEndObject();
+		}
+	}
+	
+}
+
+
+
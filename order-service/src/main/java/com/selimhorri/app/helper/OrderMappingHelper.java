@@ -1,5 +1,7 @@
 package com.selimhorri.app.helper;
 
+import java.util.Optional;
+
 import com.selimhorri.app.domain.Cart;
 import com.selimhorri.app.domain.Order;
 import com.selimhorri.app.dto.CartDto;
@@ -13,10 +15,11 @@ public interface OrderMappingHelper {
 				.orderDate(order.getOrderDate())
 				.orderDesc(order.getOrderDesc())
 				.orderFee(order.getOrderFee())
-				.cartDto(
-						CartDto.builder()
-							.cartId(order.getCart().getCartId())
+				.cartDto(Optional.ofNullable(order.getCart())
+						.map(cart -> CartDto.builder()
+							.cartId(cart.getCartId())
 							.build())
+						.orElse(null))
 				.build();
 	}
 	
@@ -26,10 +29,11 @@ public interface OrderMappingHelper {
 				.orderDate(orderDto.getOrderDate())
 				.orderDesc(orderDto.getOrderDesc())
 				.orderFee(orderDto.getOrderFee())
-				.cart(
-						Cart.builder()
-							.cartId(orderDto.getCartDto().getCartId())
+				.cart(Optional.ofNullable(orderDto.getCartDto())
+						.map(cartDto -> Cart.builder()
+							.cartId(cartDto.getCartId())
 							.build())
+						.orElse(null))
 				.build();
 	}
 	
@@ -1,11 +1,33 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.selimhorri.app.domain.Order;
 
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 	
+	@EntityGraph(attributePaths = {"cart"})
+	@Query("SELECT o FROM Order o")
+	List<Order> findAllWithCart();
+	
+	@QueryHints({
+		@QueryHint(name = HINT_FETCH_SIZE, value = "500"), 
+		@QueryHint(name = HINT_READONLY, value = "true"), 
+		@QueryHint(name = HINT_CACHEABLE, value = "false")})
+	@Query("SELECT o FROM Order o LEFT JOIN FETCH o.cart ORDER BY o.orderId")
+	Stream<Order> streamAllWithCart();
 	
 	
 }
@@ -1,6 +1,7 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import com.selimhorri.app.dto.OrderDto;
 
@@ -12,5 +13,6 @@ public interface OrderService {
 	OrderDto update(final OrderDto orderDto);
 	OrderDto update(final Integer orderId, final OrderDto orderDto);
 	void deleteById(final Integer orderId);
+	void exportAll(final Consumer<OrderDto> consumer);
 	
 }
@@ -4,13 +4,13 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
+import javax.transaction.Transactional.TxType;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.client.EnrichmentExecutor;
+import com.selimhorri.app.client.UserClient;
 import com.selimhorri.app.dto.CartDto;
-import com.selimhorri.app.dto.UserDto;
 import com.selimhorri.app.exception.wrapper.CartNotFoundException;
 import com.selimhorri.app.helper.CartMappingHelper;
 import com.selimhorri.app.repository.CartRepository;
@@ -26,19 +26,22 @@ import lombok.extern.slf4j.Slf4j;
 public class CartServiceImpl implements CartService {
 	
 	private final CartRepository cartRepository;
-	private final RestTemplate restTemplate;
+	private final UserClient userClient;
+	private final EnrichmentExecutor enrichmentExecutor;
 	
 	@Override
+	@Transactional(TxType.NOT_SUPPORTED)
 	public List<CartDto> findAll() {
 		log.info("*** CartDto List, service; fetch all carts *");
-		return this.cartRepository.findAll()
+		final var cartDtos = this.cartRepository.findAll()
 				.stream()
 					.map(CartMappingHelper::map)
-					.map(c -> {
-						c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
-						return c;
-					})
+					.collect(Collectors.toUnmodifiableList());
+		this.enrichmentExecutor.awaitAll(cartDtos.stream()
+				.map(c -> this.userClient.findByIdAsync(c.getUserDto().getUserId())
+						.thenAccept(c::setUserDto))
+				.collect(Collectors.toUnmodifiableList()));
+		return cartDtos.stream()
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
@@ -49,8 +52,7 @@ public class CartServiceImpl implements CartService {
 		return this.cartRepository.findById(cartId)
 				.map(CartMappingHelper::map)
 				.map(c -> {
-					c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
+					c.setUserDto(this.userClient.findById(c.getUserDto().getUserId()));
 					return c;
 				})
 				.orElseThrow(() -> new CartNotFoundException(String
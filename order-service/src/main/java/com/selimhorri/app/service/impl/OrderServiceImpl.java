@@ -1,11 +1,14 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
-import javax.transaction.Transactional;
+import javax.persistence.EntityManager;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
@@ -22,12 +25,15 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class OrderServiceImpl implements OrderService {
 	
+	private static final int EXPORT_CLEAR_INTERVAL = 500;
+	
 	private final OrderRepository orderRepository;
+	private final EntityManager entityManager;
 	
 	@Override
 	public List<OrderDto> findAll() {
 		log.info("*** OrderDto List, service; fetch all orders *");
-		return this.orderRepository.findAll()
+		return this.orderRepository.findAllWithCart()
 				.stream()
 					.map(OrderMappingHelper::map)
 					.distinct()
@@ -70,6 +76,21 @@ public class OrderServiceImpl implements OrderService {
 		this.orderRepository.delete(OrderMappingHelper.map(this.findById(orderId)));
 	}
 	
+	@Override
+	@Transactional(readOnly = true)
+	public void exportAll(final Consumer<OrderDto> consumer) {
+		log.info("*** Void, service; export all orders *");
+		final var exported = new AtomicInteger();
+		try (final var orders = this.orderRepository.streamAllWithCart()) {
+			orders.forEach(order -> {
+				consumer.accept(OrderMappingHelper.map(order));
+				if (exported.incrementAndGet() % EXPORT_CLEAR_INTERVAL == 0)
+					this.entityManager.clear();
+			});
+		}
+		log.info("*** Void, service; exported {} orders *", exported.get());
+	}
+	
 	
 	
 }
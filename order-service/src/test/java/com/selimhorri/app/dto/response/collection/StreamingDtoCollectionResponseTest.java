@@ -0,0 +1,78 @@
+package com.selimhorri.app.dto.response.collection;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.selimhorri.app.dto.CartDto;
+import com.selimhorri.app.dto.OrderDto;
+
+class StreamingDtoCollectionResponseTest {
+
+    private final ObjectMapper objectMapper = new JsonMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT);
+
+    private final List<OrderDto> orders = List.of(
+            OrderDto.builder().orderId(1).orderDesc("init").orderFee(5000.0)
+                    .cartDto(CartDto.builder().cartId(1).userId(1).build()).build(),
+            OrderDto.builder().orderId(2).orderDesc("no cart").orderFee(1200.0).build());
+
+    private String write(final StreamingDtoCollectionResponse<OrderDto> response) throws IOException {
+        final var outputStream = new ByteArrayOutputStream();
+        response.writeTo(outputStream);
+        return outputStream.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void shouldWriteSameEnvelopeAsDtoCollectionResponse() throws Exception {
+        // Given
+        final var expected = objectMapper.writeValueAsString(new DtoCollectionResponse<>(orders));
+
+        // When
+        final var fromIterator = write(StreamingDtoCollectionResponse.of(objectMapper, orders.iterator()));
+        final var fromStream = write(StreamingDtoCollectionResponse.of(objectMapper, orders.stream()));
+
+        // Then
+        assertEquals(expected, fromIterator);
+        assertEquals(expected, fromStream);
+    }
+
+    @Test
+    void shouldWriteEmptyCollection() throws Exception {
+        // Given
+        final var expected = objectMapper.writeValueAsString(new DtoCollectionResponse<>(List.of()));
+
+        // When
+        final var actual = write(StreamingDtoCollectionResponse.of(objectMapper, List.<OrderDto>of().iterator()));
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shouldLeaveEnvelopeOpenWhenSourceFails() {
+        // Given
+        final var written = new ByteArrayOutputStream();
+        final var response = StreamingDtoCollectionResponse.<OrderDto>of(objectMapper, consumer -> {
+            consumer.accept(orders.get(0));
+            throw new IllegalStateException("source failed");
+        });
+
+        // When
+        assertThrows(IllegalStateException.class, () -> response.writeTo(written));
+
+        // Then
+        assertTrue(written.toString(StandardCharsets.UTF_8).contains("\"orderId\" : 1"));
+        assertThrows(JsonProcessingException.class, () -> objectMapper.readTree(written.toByteArray()));
+    }
+
+}
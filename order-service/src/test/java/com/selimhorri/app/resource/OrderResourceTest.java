@@ -0,0 +1,85 @@
+package com.selimhorri.app.resource;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.service.OrderService;
+
+class OrderResourceTest {
+
+    private final OrderService orderService = mock(OrderService.class);
+
+    private final List<OrderDto> orders = List.of(
+            OrderDto.builder().orderId(1).orderDesc("init").orderFee(5000.0).build(),
+            OrderDto.builder().orderId(2).orderDesc("no cart").orderFee(1200.0).build());
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        this.mockMvc = MockMvcBuilders.standaloneSetup(new OrderResource(orderService, new JsonMapper())).build();
+        when(orderService.findAll()).thenReturn(orders);
+        doAnswer(invocation -> {
+            orders.forEach(invocation.<Consumer<OrderDto>>getArgument(0));
+            return null;
+        }).when(orderService).exportAll(any(Consumer.class));
+    }
+
+    @Test
+    void findAllShouldUseListQueryOnRequestThread() throws Exception {
+        // When / Then
+        mockMvc.perform(get("/api/orders"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.collection.length()").value(2));
+        verify(orderService).findAll();
+        verify(orderService, never()).exportAll(any());
+    }
+
+    @Test
+    void exportShouldDefaultToNdjson() throws Exception {
+        // Given
+        final var result = mockMvc.perform(get("/api/orders/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When / Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(
+                        "{\"orderId\":1,\"orderDate\":null,\"orderDesc\":\"init\",\"orderFee\":5000.0}\n"
+                        + "{\"orderId\":2,\"orderDate\":null,\"orderDesc\":\"no cart\",\"orderFee\":1200.0}\n"));
+    }
+
+    @Test
+    void exportShouldStreamCollectionEnvelopeWhenJsonRequested() throws Exception {
+        // Given
+        final var result = mockMvc.perform(get("/api/orders/export").param("format", "json"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When / Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.collection.length()").value(2))
+                .andExpect(jsonPath("$.collection[1].orderDesc").value("no cart"));
+    }
+
+}
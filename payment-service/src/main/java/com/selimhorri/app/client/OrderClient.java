@@ -0,0 +1,54 @@
+package com.selimhorri.app.client;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.OrderDto;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class OrderClient {
+	
+	private static final String SERVICE_ID = "ORDER-SERVICE";
+	
+	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final LookupMemo lookupMemo;
+	
+	public OrderDto findById(final Integer orderId) {
+		return this.enrichmentExecutor.await(this.lookup(orderId));
+	}
+	
+	public CompletableFuture<OrderDto> findByIdAsync(final Integer orderId) {
+		return this.lookupMemo.computeIfAbsent(SERVICE_ID, orderId, () -> this.lookup(orderId));
+	}
+	
+	private CompletableFuture<OrderDto> lookup(final Integer orderId) {
+		return this.enrichmentExecutor.supplyAsync(SERVICE_ID, 
+				() -> this.fetchById(orderId), 
+				() -> OrderDto.builder().orderId(orderId).build());
+	}
+	
+	private OrderDto fetchById(final Integer orderId) {
+		return this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+				.ORDER_SERVICE_API_URL + "/" + orderId, OrderDto.class);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
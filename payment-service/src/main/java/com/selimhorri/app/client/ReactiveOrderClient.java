@@ -0,0 +1,45 @@
+package com.selimhorri.app.client;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.selimhorri.app.config.client.EnrichmentProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.OrderDto;
+
+import reactor.core.publisher.Mono;
+
+@Component
+public class ReactiveOrderClient {
+	
+	private final WebClient webClient;
+	private final EnrichmentProperties enrichmentProperties;
+	
+	public ReactiveOrderClient(final WebClient.Builder webClientBuilder, final EnrichmentProperties enrichmentProperties) {
+		this.webClient = webClientBuilder
+				.baseUrl(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_API_URL)
+				.build();
+		this.enrichmentProperties = enrichmentProperties;
+	}
+	
+	public Mono<OrderDto> findById(final Integer orderId) {
+		return this.webClient.get()
+				.uri("/{orderId}", orderId)
+				.retrieve()
+				.bodyToMono(OrderDto.class)
+				.timeout(this.enrichmentProperties.getTimeout());
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,17 +1,67 @@
 package com.selimhorri.app.config.client;
 
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.concurrency.ConcurrencyLimitInterceptor;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+
 @Configuration
+@EnableConfigurationProperties({EnrichmentProperties.class, HttpClientProperties.class})
 public class ClientConfig {
 	
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager poolingConnectionManagerBean(
+			final HttpClientProperties httpClientProperties, final MeterRegistry meterRegistry) {
+		final var connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(httpClientProperties.getMaxConnectionsTotal());
+		connectionManager.setDefaultMaxPerRoute(httpClientProperties.getMaxConnectionsPerRoute());
+		connectionManager.setValidateAfterInactivity((int) httpClientProperties.getValidateAfterInactivity().toMillis());
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, "restTemplate").bindTo(meterRegistry);
+		return connectionManager;
+	}
+	
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient httpClientBean(final PoolingHttpClientConnectionManager poolingConnectionManager, 
+			final HttpClientProperties httpClientProperties) {
+		return HttpClients.custom()
+				.setConnectionManager(poolingConnectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectTimeout((int) httpClientProperties.getConnectTimeout().toMillis())
+						.setSocketTimeout((int) httpClientProperties.getReadTimeout().toMillis())
+						.setConnectionRequestTimeout((int) httpClientProperties.getPoolAcquireTimeout().toMillis())
+						.build())
+				.evictExpiredConnections()
+				.evictIdleConnections(httpClientProperties.getIdleEvictionTimeout().toMillis(), TimeUnit.MILLISECONDS)
+				.build();
+	}
+	
+	@LoadBalanced
+	@Bean
+	public RestTemplate restTemplateBean(final CloseableHttpClient httpClient, 
+			final ConcurrencyLimitInterceptor concurrencyLimitInterceptor) {
+		final var restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+		restTemplate.getInterceptors().add(concurrencyLimitInterceptor);
+		return restTemplate;
+	}
+	
 	@LoadBalanced
 	@Bean
-	public RestTemplate restTemplateBean() {
-		return new RestTemplate();
+	public WebClient.Builder webClientBuilderBean() {
+		return WebClient.builder();
 	}
 	
 	
@@ -0,0 +1,35 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.enrichment")
+@Data
+public class EnrichmentProperties {
+	
+	private int poolSize = 16;
+	private int queueCapacity = 256;
+	private int maxInFlightPerService = 8;
+	private Duration timeout = Duration.ofSeconds(5);
+	private Mode mode = Mode.BLOCKING;
+	private int reactiveConcurrency = 16;
+	
+	public enum Mode {
+		BLOCKING, 
+		REACTIVE
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,53 @@
+package com.selimhorri.app.config.concurrency;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.selimhorri.app.exception.wrapper.ConcurrencyLimitExceededException;
+
+public class ConcurrencyLimitInterceptor implements ClientHttpRequestInterceptor {
+	
+	private final ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+	
+	public ConcurrencyLimitInterceptor(final ConcurrencyLimiterRegistry concurrencyLimiterRegistry) {
+		this.concurrencyLimiterRegistry = concurrencyLimiterRegistry;
+	}
+	
+	@Override
+	public ClientHttpResponse intercept(final HttpRequest request, final byte[] body, 
+			final ClientHttpRequestExecution execution) throws IOException {
+		
+		if (!this.concurrencyLimiterRegistry.isEnabled())
+			return execution.execute(request, body);
+		
+		final var service = String.valueOf(request.getURI().getHost());
+		final var limiter = this.concurrencyLimiterRegistry.limiterFor(service);
+		if (!limiter.tryAcquire())
+			throw new ConcurrencyLimitExceededException(String
+					.format("Too many concurrent calls to %s", service));
+		
+		final long start = System.nanoTime();
+		try {
+			final var response = execution.execute(request, body);
+			final int status = response.getRawStatusCode();
+			if (status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.TOO_MANY_REQUESTS.value())
+				limiter.onDropped();
+			else
+				limiter.onSuccess(System.nanoTime() - start);
+			return response;
+		}
+		catch (IOException | RuntimeException e) {
+			limiter.onDropped();
+			throw e;
+		}
+	}
+	
+}
+
+
+
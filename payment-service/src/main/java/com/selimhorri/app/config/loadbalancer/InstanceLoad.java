@@ -0,0 +1,76 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+public class InstanceLoad {
+	
+	private static final double NANOS_PER_SECOND = 1_000_000_000D;
+	
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final double decayNanos;
+	private double latencyNanos;
+	private long lastUpdateNanos = System.nanoTime();
+	private List<Meter> meters = List.of();
+	
+	public InstanceLoad(final long decayNanos) {
+		this.decayNanos = Math.max(1L, decayNanos);
+	}
+	
+	public void start() {
+		this.inFlight.incrementAndGet();
+	}
+	
+	public void complete(final long elapsedNanos) {
+		this.inFlight.updateAndGet(count -> count > 0 ? count - 1 : 0);
+		if (elapsedNanos >= 0)
+			this.observe(elapsedNanos);
+	}
+	
+	public synchronized void observe(final long elapsedNanos) {
+		final long now = System.nanoTime();
+		if (elapsedNanos > this.latencyNanos)
+			this.latencyNanos = elapsedNanos;
+		else {
+			final double weight = Math.exp(-(now - this.lastUpdateNanos) / this.decayNanos);
+			this.latencyNanos = this.latencyNanos * weight + elapsedNanos * (1D - weight);
+		}
+		this.lastUpdateNanos = now;
+	}
+	
+	public synchronized double getLatencyNanos() {
+		return this.latencyNanos * Math.exp(-(System.nanoTime() - this.lastUpdateNanos) / this.decayNanos);
+	}
+	
+	public int getInFlight() {
+		return this.inFlight.get();
+	}
+	
+	public double getCost() {
+		return (this.getLatencyNanos() + 1D) * (this.inFlight.get() + 1);
+	}
+	
+	public void register(final MeterRegistry meterRegistry, final Tags tags) {
+		this.meters = List.of(
+				Gauge.builder("loadbalancer.instance.latency", this, load -> load.getLatencyNanos() / NANOS_PER_SECOND)
+						.tags(tags)
+						.baseUnit("seconds")
+						.register(meterRegistry),
+				Gauge.builder("loadbalancer.instance.in.flight", this, InstanceLoad::getInFlight)
+						.tags(tags)
+						.register(meterRegistry));
+	}
+	
+	public void unregister(final MeterRegistry meterRegistry) {
+		this.meters.forEach(meterRegistry::remove);
+	}
+	
+}
+
+
+
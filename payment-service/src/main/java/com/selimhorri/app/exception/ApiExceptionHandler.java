@@ -12,6 +12,7 @@ import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import com.selimhorri.app.exception.payload.ExceptionMsg;
+import com.selimhorri.app.exception.wrapper.ConcurrencyLimitExceededException;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
 
 import lombok.RequiredArgsConstructor;
@@ -58,6 +59,23 @@ public class ApiExceptionHandler {
 					.build(), badRequest);
 	}
 	
+	@ExceptionHandler(value = {
+		ConcurrencyLimitExceededException.class,
+	})
+	public <T extends RuntimeException> ResponseEntity<ExceptionMsg> handleConcurrencyLimitException(final T e) {
+		
+		log.info("**ApiExceptionHandler controller, handle concurrency limit exception*\n");
+		final var serviceUnavailable = HttpStatus.SERVICE_UNAVAILABLE;
+		
+		return new ResponseEntity<>(
+				ExceptionMsg.builder()
+					.msg("#### " + e.getMessage() + "! ####")
+					.httpStatus(serviceUnavailable)
+					.timestamp(ZonedDateTime
+							.now(ZoneId.systemDefault()))
+					.build(), serviceUnavailable);
+	}
+	
 	
 	
 }
@@ -20,6 +20,7 @@ import com.selimhorri.app.service.PaymentService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/payments")
@@ -30,9 +31,10 @@ public class PaymentResource {
 	private final PaymentService paymentService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<PaymentDto>> findAll() {
+	public Mono<ResponseEntity<DtoCollectionResponse<PaymentDto>>> findAll() {
 		log.info("*** PaymentDto List, controller; fetch all payments *");
-		return ResponseEntity.ok(new DtoCollectionResponse<>(this.paymentService.findAll()));
+		return this.paymentService.findAllAsync()
+				.map(paymentDtos -> ResponseEntity.ok(new DtoCollectionResponse<>(paymentDtos)));
 	}
 	
 	@GetMapping("/{paymentId}")
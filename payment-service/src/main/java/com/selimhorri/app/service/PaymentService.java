@@ -4,9 +4,12 @@ import java.util.List;
 
 import com.selimhorri.app.dto.PaymentDto;
 
+import reactor.core.publisher.Mono;
+
 public interface PaymentService {
 	
 	List<PaymentDto> findAll();
+	Mono<List<PaymentDto>> findAllAsync();
 	PaymentDto findById(final Integer paymentId);
 	PaymentDto save(final PaymentDto paymentDto);
 	PaymentDto update(final PaymentDto paymentDto);
@@ -4,12 +4,14 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
+import javax.transaction.Transactional.TxType;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import com.selimhorri.app.constant.AppConstant;
-import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.client.EnrichmentExecutor;
+import com.selimhorri.app.client.OrderClient;
+import com.selimhorri.app.client.ReactiveOrderClient;
+import com.selimhorri.app.config.client.EnrichmentProperties;
 import com.selimhorri.app.dto.PaymentDto;
 import com.selimhorri.app.exception.wrapper.PaymentNotFoundException;
 import com.selimhorri.app.helper.PaymentMappingHelper;
@@ -18,6 +20,8 @@ import com.selimhorri.app.service.PaymentService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Service
 @Transactional
@@ -26,31 +30,55 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentServiceImpl implements PaymentService {
 	
 	private final PaymentRepository paymentRepository;
-	private final RestTemplate restTemplate;
+	private final OrderClient orderClient;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final ReactiveOrderClient reactiveOrderClient;
+	private final EnrichmentProperties enrichmentProperties;
 	
 	@Override
+	@Transactional(TxType.NOT_SUPPORTED)
 	public List<PaymentDto> findAll() {
 		log.info("*** PaymentDto List, service; fetch all payments *");
-		return this.paymentRepository.findAll()
+		final var paymentDtos = this.paymentRepository.findAll()
 				.stream()
 					.map(PaymentMappingHelper::map)
-					.map(p -> {
-						p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
-						return p;
-					})
+					.collect(Collectors.toUnmodifiableList());
+		this.enrichmentExecutor.awaitAll(paymentDtos.stream()
+				.map(p -> this.orderClient.findByIdAsync(p.getOrderDto().getOrderId())
+						.thenAccept(p::setOrderDto))
+				.collect(Collectors.toUnmodifiableList()));
+		return paymentDtos.stream()
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	@Transactional(TxType.NOT_SUPPORTED)
+	public Mono<List<PaymentDto>> findAllAsync() {
+		
+		if (this.enrichmentProperties.getMode() != EnrichmentProperties.Mode.REACTIVE)
+			return Mono.fromSupplier(this::findAll);
+		
+		log.info("*** PaymentDto List, service; fetch all payments, reactive enrichment *");
+		final var paymentDtos = this.paymentRepository.findAll()
+				.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+		return Flux.fromIterable(paymentDtos)
+				.flatMapSequential(p -> this.reactiveOrderClient.findById(p.getOrderDto().getOrderId())
+						.doOnNext(p::setOrderDto)
+						.thenReturn(p), this.enrichmentProperties.getReactiveConcurrency())
+				.distinct()
+				.collectList();
+	}
+	
 	@Override
 	public PaymentDto findById(final Integer paymentId) {
 		log.info("*** PaymentDto, service; fetch payment by id *");
 		return this.paymentRepository.findById(paymentId)
 				.map(PaymentMappingHelper::map)
 				.map(p -> {
-					p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
+					p.setOrderDto(this.orderClient.findById(p.getOrderDto().getOrderId()));
 					return p;
 				})
 				.orElseThrow(() -> new PaymentNotFoundException(String.format("Payment with id: %d not found", paymentId)));
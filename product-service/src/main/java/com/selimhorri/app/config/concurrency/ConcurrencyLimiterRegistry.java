@@ -0,0 +1,47 @@
+package com.selimhorri.app.config.concurrency;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class ConcurrencyLimiterRegistry {
+	
+	private static final String METRIC_PREFIX = "http.client.concurrency";
+	
+	private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+	private final ConcurrencyLimitProperties concurrencyLimitProperties;
+	private final MeterRegistry meterRegistry;
+	
+	public ConcurrencyLimiterRegistry(final ConcurrencyLimitProperties concurrencyLimitProperties, 
+			final MeterRegistry meterRegistry) {
+		this.concurrencyLimitProperties = concurrencyLimitProperties;
+		this.meterRegistry = meterRegistry;
+	}
+	
+	public boolean isEnabled() {
+		return this.concurrencyLimitProperties.isEnabled();
+	}
+	
+	public AdaptiveConcurrencyLimiter limiterFor(final String service) {
+		final var limiter = this.limiters.get(service);
+		return (limiter != null) ? limiter : this.limiters.computeIfAbsent(service, this::register);
+	}
+	
+	private AdaptiveConcurrencyLimiter register(final String service) {
+		final var limiter = new AdaptiveConcurrencyLimiter(this.concurrencyLimitProperties, 
+				this.meterRegistry.counter(METRIC_PREFIX + ".rejected", "service", service));
+		Gauge.builder(METRIC_PREFIX + ".limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+				.tag("service", service)
+				.register(this.meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+				.tag("service", service)
+				.register(this.meterRegistry);
+		return limiter;
+	}
+	
+}
+
+
+
@@ -0,0 +1,20 @@
+package com.selimhorri.app.config.jpa;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.sql-statistics")
+public class SqlStatisticsProperties {
+	
+	private boolean enabled = true;
+	private boolean headersEnabled = false;
+	private List<String> headersExcludedPaths = List.of();
+	
+}
+
+
+
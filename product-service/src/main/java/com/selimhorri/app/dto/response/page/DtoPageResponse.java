@@ -0,0 +1,22 @@
+package com.selimhorri.app.dto.response.page;
+
+import java.util.Collection;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class DtoPageResponse<T> {
+	
+	private Collection<T> collection;
+	private Integer nextCursor;
+	
+}
+
+
+
@@ -1,11 +1,18 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.selimhorri.app.domain.Category;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
 	
+	@EntityGraph(attributePaths = {"parentCategory"})
+	@Query("SELECT c FROM Category c")
+	List<Category> findAllWithParentCategory();
 	
 	
 }
@@ -1,11 +1,31 @@
 package com.selimhorri.app.repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.selimhorri.app.domain.Product;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 	
+	@EntityGraph(attributePaths = {"category", "category.parentCategory"})
+	@Query("SELECT p FROM Product p")
+	List<Product> findAllWithCategory();
+	
+	@EntityGraph(attributePaths = {"category", "category.parentCategory"})
+	List<Product> findAllByProductIdIn(final Collection<Integer> productIds);
+	
+	@EntityGraph(attributePaths = {"category", "category.parentCategory"})
+	List<Product> findByProductIdGreaterThanOrderByProductIdAsc(final Integer after, final Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"category", "category.parentCategory"})
+	List<Product> findByCategoryCategoryIdAndProductIdGreaterThanOrderByProductIdAsc(
+			final Integer categoryId, final Integer after, final Pageable pageable);
+	
 	
 	
 }
@@ -1,7 +1,11 @@
 package com.selimhorri.app.resource;
 
+import java.util.Map;
+import java.util.Set;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.http.ResponseEntity;
@@ -12,10 +16,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.dto.response.page.DtoPageResponse;
 import com.selimhorri.app.service.ProductService;
 
 import lombok.RequiredArgsConstructor;
@@ -35,6 +42,15 @@ public class ProductResource {
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAll()));
 	}
 	
+	@GetMapping("/page")
+	public ResponseEntity<DtoPageResponse<ProductDto>> findPage(
+			@RequestParam(name = "after", defaultValue = "0") final Integer after,
+			@RequestParam(name = "limit", defaultValue = "" + AppConstant.PAGE_DEFAULT_LIMIT) final Integer limit,
+			@RequestParam(name = "categoryId", required = false) final Integer categoryId) {
+		log.info("*** ProductDto Page, resource; fetch products page after cursor *");
+		return ResponseEntity.ok(this.productService.findPage(after, limit, categoryId));
+	}
+	
 	@GetMapping("/{productId}")
 	public ResponseEntity<ProductDto> findById(
 			@PathVariable("productId") 
@@ -44,6 +60,14 @@ public class ProductResource {
 		return ResponseEntity.ok(this.productService.findById(Integer.parseInt(productId)));
 	}
 	
+	@PostMapping("/lookup")
+	public ResponseEntity<Map<Integer, ProductDto>> findAllById(
+			@RequestBody 
+			@NotEmpty(message = "Input must not be empty!") final Set<Integer> productIds) {
+		log.info("*** ProductDto Map, resource; fetch products by ids *");
+		return ResponseEntity.ok(this.productService.findAllById(productIds));
+	}
+	
 	@PostMapping
 	public ResponseEntity<ProductDto> save(
 			@RequestBody 
@@ -1,13 +1,18 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.page.DtoPageResponse;
 
 public interface ProductService {
 	
 	List<ProductDto> findAll();
+	DtoPageResponse<ProductDto> findPage(final Integer after, final Integer limit, final Integer categoryId);
 	ProductDto findById(final Integer productId);
+	Map<Integer, ProductDto> findAllById(final Collection<Integer> productIds);
 	ProductDto save(final ProductDto productDto);
 	ProductDto update(final ProductDto productDto);
 	ProductDto update(final Integer productId, final ProductDto productDto);
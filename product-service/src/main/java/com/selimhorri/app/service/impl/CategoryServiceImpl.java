@@ -27,7 +27,7 @@ public class CategoryServiceImpl implements CategoryService {
 	@Override
 	public List<CategoryDto> findAll() {
 		log.info("*** CategoryDto List, service; fetch all categorys *");
-		return this.categoryRepository.findAll()
+		return this.categoryRepository.findAllWithParentCategory()
 				.stream()
 					.map(CategoryMappingHelper::map)
 					.distinct()
@@ -1,13 +1,20 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Product;
 import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.page.DtoPageResponse;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
 import com.selimhorri.app.helper.ProductMappingHelper;
 import com.selimhorri.app.repository.ProductRepository;
@@ -27,13 +34,31 @@ public class ProductServiceImpl implements ProductService {
 	@Override
 	public List<ProductDto> findAll() {
 		log.info("*** ProductDto List, service; fetch all products *");
-		return this.productRepository.findAll()
+		return this.productRepository.findAllWithCategory()
 				.stream()
 					.map(ProductMappingHelper::map)
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public DtoPageResponse<ProductDto> findPage(final Integer after, final Integer limit, final Integer categoryId) {
+		log.info("*** ProductDto Page, service; fetch products page after cursor *");
+		final int cursor = (after == null) ? 0 : Math.max(after, 0);
+		final int size = (limit == null) ? AppConstant.PAGE_DEFAULT_LIMIT : Math.min(Math.max(limit, 1), AppConstant.PAGE_MAX_LIMIT);
+		final var pageable = PageRequest.of(0, size + 1);
+		final List<Product> products = (categoryId == null)
+				? this.productRepository.findByProductIdGreaterThanOrderByProductIdAsc(cursor, pageable)
+				: this.productRepository.findByCategoryCategoryIdAndProductIdGreaterThanOrderByProductIdAsc(categoryId, cursor, pageable);
+		final boolean hasNext = products.size() > size;
+		final List<ProductDto> productDtos = products.stream()
+				.limit(size)
+				.map(ProductMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList());
+		return new DtoPageResponse<>(productDtos,
+				hasNext ? productDtos.get(productDtos.size() - 1).getProductId() : null);
+	}
+	
 	@Override
 	public ProductDto findById(final Integer productId) {
 		log.info("*** ProductDto, service; fetch product by id *");
@@ -42,6 +67,15 @@ public class ProductServiceImpl implements ProductService {
 				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
 	}
 	
+	@Override
+	public Map<Integer, ProductDto> findAllById(final Collection<Integer> productIds) {
+		log.info("*** ProductDto Map, service; fetch products by ids *");
+		return this.productRepository.findAllByProductIdIn(productIds)
+				.stream()
+					.map(ProductMappingHelper::map)
+					.collect(Collectors.toUnmodifiableMap(ProductDto::getProductId, Function.identity()));
+	}
+	
 	@Override
 	public ProductDto save(final ProductDto productDto) {
 		log.info("*** ProductDto, service; save product *");
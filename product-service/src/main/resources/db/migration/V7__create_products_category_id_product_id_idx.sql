@@ -0,0 +1,3 @@
+
+CREATE INDEX idx_products_category_id_product_id ON products (category_id, product_id);
+
@@ -0,0 +1,135 @@
+package com.selimhorri.app.config.concurrency;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+
+import com.selimhorri.app.exception.wrapper.ConcurrencyLimitExceededException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrencyLimitProperties properties;
+    private ConcurrencyLimiterRegistry limiterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(10);
+        properties.setMinLimit(2);
+        properties.setMaxLimit(50);
+        limiterRegistry = new ConcurrencyLimiterRegistry(properties, meterRegistry);
+    }
+
+    private static void saturateAndComplete(final AdaptiveConcurrencyLimiter limiter, final long rttMillis) {
+        final int permits = limiter.getLimit();
+        for (int i = 0; i < permits; i++)
+            assertTrue(limiter.tryAcquire());
+        for (int i = 0; i < permits; i++)
+            limiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(rttMillis));
+    }
+
+    @Test
+    void tryAcquire_WhenLimitIsReached_ShouldRejectAndCount() {
+        // Given
+        final AdaptiveConcurrencyLimiter limiter = limiterRegistry.limiterFor("USER-SERVICE");
+        for (int i = 0; i < 10; i++)
+            assertTrue(limiter.tryAcquire());
+
+        // When
+        final boolean acquired = limiter.tryAcquire();
+
+        // Then
+        assertFalse(acquired);
+        assertEquals(10, limiter.getInFlight());
+        assertEquals(1D, meterRegistry.get("http.client.concurrency.rejected").tag("service", "USER-SERVICE").counter().count());
+        assertEquals(10D, meterRegistry.get("http.client.concurrency.limit").tag("service", "USER-SERVICE").gauge().value());
+    }
+
+    @Test
+    void onSuccess_WhenLatencyIsSteadyUnderLoad_ShouldGrowTheLimit() {
+        // Given
+        final AdaptiveConcurrencyLimiter limiter = limiterRegistry.limiterFor("USER-SERVICE");
+
+        // When
+        for (int round = 0; round < 20; round++)
+            saturateAndComplete(limiter, 10);
+
+        // Then
+        assertTrue(limiter.getLimit() > 10);
+    }
+
+    @Test
+    void onSuccess_WhenLatencyInflatesUnderLoad_ShouldShrinkTheLimit() {
+        // Given
+        final AdaptiveConcurrencyLimiter limiter = limiterRegistry.limiterFor("USER-SERVICE");
+        for (int round = 0; round < 5; round++)
+            saturateAndComplete(limiter, 10);
+        final int warmLimit = limiter.getLimit();
+
+        // When
+        for (int round = 0; round < 10; round++)
+            saturateAndComplete(limiter, 200);
+
+        // Then
+        assertTrue(limiter.getLimit() < warmLimit);
+        assertTrue(limiter.getLimit() >= properties.getMinLimit());
+    }
+
+    @Test
+    void onSuccess_WhenTrafficIsLight_ShouldKeepTheLimit() {
+        // Given
+        final AdaptiveConcurrencyLimiter limiter = limiterRegistry.limiterFor("USER-SERVICE");
+
+        // When: a single request in flight at a time gives no congestion signal
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(i % 2 == 0 ? 5 : 500));
+        }
+
+        // Then
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void onDropped_ShouldBackOffMultiplicatively() {
+        // Given
+        final AdaptiveConcurrencyLimiter limiter = limiterRegistry.limiterFor("USER-SERVICE");
+
+        // When
+        assertTrue(limiter.tryAcquire());
+        limiter.onDropped();
+
+        // Then
+        assertEquals(9, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void intercept_WhenLimitIsReached_ShouldFailFastWithoutCallingDownstream() throws Exception {
+        // Given
+        final ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(limiterRegistry);
+        final AdaptiveConcurrencyLimiter limiter = limiterRegistry.limiterFor("USER-SERVICE");
+        for (int i = 0; i < 10; i++)
+            limiter.tryAcquire();
+        final HttpRequest request = mock(HttpRequest.class);
+        when(request.getURI()).thenReturn(URI.create("http://USER-SERVICE/user-service/api/users/1"));
+        final ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+
+        // When / Then
+        assertThrows(ConcurrencyLimitExceededException.class, () -> interceptor.intercept(request, new byte[0], execution));
+        verify(execution, never()).execute(any(HttpRequest.class), any(byte[].class));
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.selimhorri.app.config.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+class GzipRequestFilterTest {
+
+    private static final String BODY = "{\"productTitle\":\"asus\",\"sku\":\"dfqejklejrkn\"}";
+
+    private final GzipRequestFilter filter = new GzipRequestFilter(DataSize.ofKilobytes(1));
+
+    private static byte[] gzip(final String body) throws IOException {
+        final var buffer = new ByteArrayOutputStream();
+        try (final var gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        return buffer.toByteArray();
+    }
+
+    @Test
+    void shouldInflateGzipEncodedRequestBody() throws Exception {
+        // Given
+        final var request = new MockHttpServletRequest("POST", "/api/products");
+        request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        request.setContent(gzip(BODY));
+        final var forwarded = new AtomicReference<HttpServletRequest>();
+        final var body = new AtomicReference<String>();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            forwarded.set((HttpServletRequest) req);
+            body.set(StreamUtils.copyToString(req.getInputStream(), StandardCharsets.UTF_8));
+        });
+
+        // Then
+        assertEquals(BODY, body.get());
+        assertNull(forwarded.get().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(-1, forwarded.get().getContentLength());
+    }
+
+    @Test
+    void shouldPassThroughUncompressedRequestBody() throws Exception {
+        // Given
+        final var request = new MockHttpServletRequest("POST", "/api/products");
+        request.setContent(BODY.getBytes(StandardCharsets.UTF_8));
+        final var forwarded = new AtomicReference<HttpServletRequest>();
+
+        // When
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> forwarded.set((HttpServletRequest) req));
+
+        // Then
+        assertSame(request, forwarded.get());
+    }
+
+    @Test
+    void shouldRejectBodyInflatingBeyondLimit() throws Exception {
+        // Given
+        final var request = new MockHttpServletRequest("POST", "/api/products");
+        request.addHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        request.setContent(gzip("0".repeat(1024 * 1024)));
+
+        // When
+        final var e = assertThrows(ResponseStatusException.class, () -> filter.doFilter(request, new MockHttpServletResponse(), 
+                (req, res) -> StreamUtils.copyToByteArray(req.getInputStream())));
+
+        // Then
+        assertTrue(request.getContentAsByteArray().length < 2048);
+        assertEquals(HttpStatus.PAYLOAD_TOO_LARGE, e.getStatus());
+    }
+
+}
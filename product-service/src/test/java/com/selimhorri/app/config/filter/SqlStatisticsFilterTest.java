@@ -0,0 +1,135 @@
+package com.selimhorri.app.config.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.servlet.ServletResponse;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import com.selimhorri.app.config.jpa.SqlStatisticsProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SqlStatisticsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SqlStatisticsFilter filter(final boolean headersEnabled, final String... excludedPaths) {
+        final var properties = new SqlStatisticsProperties();
+        properties.setHeadersEnabled(headersEnabled);
+        properties.setHeadersExcludedPaths(List.of(excludedPaths));
+        return new SqlStatisticsFilter(properties, meterRegistry);
+    }
+
+    private static MockHttpServletRequest request(final String path) {
+        final var request = new MockHttpServletRequest("GET", path);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/products");
+        return request;
+    }
+
+    @Test
+    void shouldSetHeadersBeforeFirstFlushWithoutBuffering() throws Exception {
+        // Given
+        final var response = new MockHttpServletResponse();
+        final var countAtCommit = new AtomicReference<String>();
+        final var writtenAtCommit = new AtomicReference<String>();
+
+        // When
+        filter(true).doFilter(request("/api/products"), response, (req, res) -> {
+            res.getOutputStream().write("{\"collection\":[]}".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+            countAtCommit.set(response.getHeader(SqlStatisticsFilter.COUNT_HEADER));
+            writtenAtCommit.set(response.getContentAsString());
+        });
+
+        // Then
+        assertEquals("0", countAtCommit.get());
+        assertEquals("{\"collection\":[]}", writtenAtCommit.get());
+        assertNotNull(response.getHeader(SqlStatisticsFilter.TIME_HEADER));
+    }
+
+    @Test
+    void shouldSetHeadersOnBodilessResponse() throws Exception {
+        // Given
+        final var response = new MockHttpServletResponse();
+
+        // When
+        filter(true).doFilter(request("/api/products"), response, (req, res) -> ((HttpServletResponse) res).setStatus(204));
+
+        // Then
+        assertEquals("0", response.getHeader(SqlStatisticsFilter.COUNT_HEADER));
+    }
+
+    @Test
+    void shouldNotWrapExcludedPaths() throws Exception {
+        // Given
+        final var response = new MockHttpServletResponse();
+        final var forwarded = new AtomicReference<ServletResponse>();
+
+        // When
+        filter(true, "/api/products/export/**").doFilter(request("/api/products/export/all"), response, 
+                (req, res) -> forwarded.set(res));
+
+        // Then
+        assertSame(response, forwarded.get());
+        assertNull(response.getHeader(SqlStatisticsFilter.COUNT_HEADER));
+        assertEquals(1, meterRegistry.get("http.server.requests.sql.statements").summary().count());
+    }
+
+    @Test
+    void shouldRecordStatementsPerRequest() throws Exception {
+        // When
+        filter(false).doFilter(request("/api/products"), new MockHttpServletResponse(), (req, res) -> {});
+
+        // Then
+        final var summary = meterRegistry.get("http.server.requests.sql.statements")
+                .tag("method", "GET")
+                .tag("uri", "/api/products")
+                .summary();
+        assertEquals(1, summary.count());
+    }
+
+    @Test
+    void shouldSkipRecordingAndHeadersWhenWorkLeavesRequestThread() throws Exception {
+        // Given
+        final var request = request("/api/products");
+        request.setAsyncSupported(true);
+        final var response = new MockHttpServletResponse();
+
+        // When
+        filter(true).doFilter(request, response, (req, res) -> {
+            final var asyncWebRequest = new StandardServletAsyncWebRequest((HttpServletRequest) req, (HttpServletResponse) res);
+            WebAsyncUtils.getAsyncManager(req).setAsyncWebRequest(asyncWebRequest);
+            asyncWebRequest.startAsync();
+            CompletableFuture.runAsync(() -> {
+                try {
+                    res.getOutputStream().write('[');
+                    res.flushBuffer();
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }).join();
+        });
+
+        // Then
+        assertEquals("[", response.getContentAsString());
+        assertNull(response.getHeader(SqlStatisticsFilter.COUNT_HEADER));
+        assertTrue(meterRegistry.find("http.server.requests.sql.statements").summaries().isEmpty());
+    }
+
+}
@@ -0,0 +1,135 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultRequestContext;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LatencyAwareLoadBalancerTest {
+
+    private static final String SERVICE_ID = "PRODUCT-SERVICE";
+
+    private final ServiceInstance fast = new DefaultServiceInstance("fast", SERVICE_ID, "localhost", 8081, false);
+    private final ServiceInstance slow = new DefaultServiceInstance("slow", SERVICE_ID, "localhost", 8082, false);
+
+    private SimpleMeterRegistry meterRegistry;
+    private LatencyAwareLoadBalancerProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new LatencyAwareLoadBalancerProperties();
+        properties.setDecayTime(Duration.ofMinutes(1));
+    }
+
+    private LatencyAwareLoadBalancer loadBalancer(final ServiceInstance... instances) {
+        return new LatencyAwareLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, instances), SERVICE_ID, properties, meterRegistry);
+    }
+
+    private static ServiceInstance choose(final LatencyAwareLoadBalancer loadBalancer) {
+        return loadBalancer.choose(new DefaultRequest<>(new DefaultRequestContext())).block().getServer();
+    }
+
+    @Test
+    void choose_WhenOneInstanceIsSlower_ShouldPreferTheFasterOne() {
+        // Given
+        final LatencyAwareLoadBalancer loadBalancer = loadBalancer(fast, slow);
+        loadBalancer.loadOf(fast).observe(TimeUnit.MILLISECONDS.toNanos(5));
+        loadBalancer.loadOf(slow).observe(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // When / Then: with two instances both are always sampled, so the cheaper one always wins
+        for (int i = 0; i < 50; i++)
+            assertEquals("fast", choose(loadBalancer).getInstanceId());
+    }
+
+    @Test
+    void choose_WhenLatencyIsEqual_ShouldPreferTheInstanceWithFewerInFlightRequests() {
+        // Given
+        final LatencyAwareLoadBalancer loadBalancer = loadBalancer(fast, slow);
+        loadBalancer.loadOf(fast).observe(TimeUnit.MILLISECONDS.toNanos(10));
+        loadBalancer.loadOf(slow).observe(TimeUnit.MILLISECONDS.toNanos(10));
+        for (int i = 0; i < 5; i++)
+            loadBalancer.loadOf(fast).start();
+
+        // When / Then
+        assertEquals("slow", choose(loadBalancer).getInstanceId());
+    }
+
+    @Test
+    void choose_WhenNoInstanceIsAvailable_ShouldReturnEmptyResponse() {
+        // When
+        final Response<ServiceInstance> response = loadBalancer()
+                .choose(new DefaultRequest<>(new DefaultRequestContext()))
+                .block();
+
+        // Then
+        assertNotNull(response);
+        assertFalse(response.hasServer());
+    }
+
+    @Test
+    void lifecycle_ShouldTrackInFlightRequestsAndRecordLatency() {
+        // Given
+        final LatencyAwareLoadBalancer loadBalancer = loadBalancer(fast, slow);
+        final Request<Object> request = new DefaultRequest<>(new DefaultRequestContext());
+        final Response<ServiceInstance> lbResponse = new DefaultResponse(fast);
+
+        // When
+        loadBalancer.onStartRequest(request, lbResponse);
+        final int inFlightDuringRequest = loadBalancer.loadOf(fast).getInFlight();
+        loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.SUCCESS, request, lbResponse));
+
+        // Then
+        assertEquals(1, inFlightDuringRequest);
+        assertEquals(0, loadBalancer.loadOf(fast).getInFlight());
+        assertTrue(loadBalancer.loadOf(fast).getLatencyNanos() > 0D);
+        assertNotNull(meterRegistry.find("loadbalancer.instance.in.flight").tag("instance", "fast").gauge());
+    }
+
+    @Test
+    void lifecycle_WhenRequestFails_ShouldApplyFailurePenalty() {
+        // Given
+        final LatencyAwareLoadBalancer loadBalancer = loadBalancer(fast, slow);
+        final Request<Object> request = new DefaultRequest<>(new DefaultRequestContext());
+        final Response<ServiceInstance> lbResponse = new DefaultResponse(slow);
+
+        // When
+        loadBalancer.onStartRequest(request, lbResponse);
+        loadBalancer.onComplete(new CompletionContext<>(CompletionContext.Status.FAILED, request, lbResponse));
+
+        // Then
+        assertTrue(loadBalancer.loadOf(slow).getLatencyNanos() >= properties.getFailurePenalty().toNanos() * 0.99D);
+    }
+
+    @Test
+    void choose_WhenInstanceLeavesTheRegistry_ShouldDropItsGauges() {
+        // Given
+        final LatencyAwareLoadBalancer shrunk = new LatencyAwareLoadBalancer(
+                ServiceInstanceListSuppliers.toProvider(SERVICE_ID, fast), SERVICE_ID, properties, meterRegistry);
+        shrunk.loadOf(fast);
+        shrunk.loadOf(slow);
+
+        // When
+        choose(shrunk);
+
+        // Then
+        assertNull(meterRegistry.find("loadbalancer.instance.in.flight").tag("instance", "slow").gauge());
+        assertNotNull(meterRegistry.find("loadbalancer.instance.in.flight").tag("instance", "fast").gauge());
+    }
+
+}
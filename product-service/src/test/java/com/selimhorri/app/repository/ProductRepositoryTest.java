@@ -0,0 +1,112 @@
+package com.selimhorri.app.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.sql.init.mode=never",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate=WARN"
+})
+@ActiveProfiles("test")
+class ProductRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private void insertCategoriesWithProducts(final int count) {
+        for (int n = 0; n < count; n++) {
+            final int i = sequence++;
+            final Category parent = entityManager.merge(Category.builder()
+                    .categoryTitle("Parent " + i)
+                    .build());
+            final Category category = entityManager.merge(Category.builder()
+                    .categoryTitle("Child " + i)
+                    .parentCategory(parent)
+                    .build());
+            entityManager.merge(Product.builder()
+                    .productTitle("Product " + i)
+                    .sku("SKU-" + i)
+                    .priceUnit(1.0)
+                    .quantity(1)
+                    .category(category)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private long countStatements(final Runnable query) {
+        entityManager.clear();
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    void findAllWithCategory_ShouldIssueConstantStatementsAsRowsGrow() {
+        // Given
+        insertCategoriesWithProducts(3);
+        final long small = countStatements(() -> productRepository.findAllWithCategory()
+                .forEach(p -> p.getCategory().getParentCategory()));
+
+        // When
+        insertCategoriesWithProducts(30);
+        final long large = countStatements(() -> productRepository.findAllWithCategory()
+                .forEach(p -> p.getCategory().getParentCategory()));
+
+        // Then
+        assertEquals(1, small);
+        assertEquals(small, large);
+    }
+
+    @Test
+    void findAllWithParentCategory_ShouldIssueConstantStatementsAsRowsGrow() {
+        // Given
+        insertCategoriesWithProducts(3);
+        final long small = countStatements(() -> categoryRepository.findAllWithParentCategory());
+
+        // When
+        insertCategoriesWithProducts(30);
+        final long large = countStatements(() -> categoryRepository.findAllWithParentCategory());
+
+        // Then
+        assertEquals(1, small);
+        assertEquals(small, large);
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.selimhorri.app.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.response.page.DtoPageResponse;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.impl.ProductServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class ProductServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @InjectMocks
+    private ProductServiceImpl productService;
+
+    private static List<Product> products(final int fromId, final int count) {
+        final Category category = Category.builder()
+                .categoryId(1)
+                .categoryTitle("Computer")
+                .build();
+        return IntStream.range(fromId, fromId + count)
+                .mapToObj(id -> Product.builder()
+                        .productId(id)
+                        .productTitle("Product " + id)
+                        .category(category)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void findPage_WhenMoreRowsRemain_ShouldReturnLimitAndNextCursor() {
+        // Given: the repository is asked for limit + 1 rows and returns all of them
+        when(productRepository.findByProductIdGreaterThanOrderByProductIdAsc(10, PageRequest.of(0, 4)))
+                .thenReturn(products(11, 4));
+
+        // When
+        DtoPageResponse<ProductDto> page = productService.findPage(10, 3, null);
+
+        // Then
+        assertEquals(3, page.getCollection().size());
+        assertEquals(13, page.getNextCursor());
+        verify(productRepository, never())
+                .findByCategoryCategoryIdAndProductIdGreaterThanOrderByProductIdAsc(anyInt(), anyInt(), any());
+    }
+
+    @Test
+    void findPage_OnLastPageOfCategory_ShouldReturnNullCursor() {
+        // Given
+        when(productRepository.findByCategoryCategoryIdAndProductIdGreaterThanOrderByProductIdAsc(1, 0, PageRequest.of(0, 4)))
+                .thenReturn(products(1, 2));
+
+        // When
+        DtoPageResponse<ProductDto> page = productService.findPage(0, 3, 1);
+
+        // Then
+        assertEquals(2, page.getCollection().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void findPage_WithOversizedLimit_ShouldClampToMaximum() {
+        // Given
+        when(productRepository.findByProductIdGreaterThanOrderByProductIdAsc(eq(0), any()))
+                .thenReturn(List.of());
+
+        // When
+        productService.findPage(null, 10_000, null);
+
+        // Then
+        verify(productRepository).findByProductIdGreaterThanOrderByProductIdAsc(0, PageRequest.of(0, 101));
+    }
+
+}
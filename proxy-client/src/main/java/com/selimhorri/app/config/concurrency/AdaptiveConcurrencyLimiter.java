@@ -0,0 +1,83 @@
+package com.selimhorri.app.config.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.Counter;
+
+public class AdaptiveConcurrencyLimiter {
+	
+	private final ConcurrencyLimitProperties concurrencyLimitProperties;
+	private final Counter rejectedCounter;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final double longRttFactor;
+	private volatile int limit;
+	private double estimatedLimit;
+	private double longRttNanos;
+	
+	public AdaptiveConcurrencyLimiter(final ConcurrencyLimitProperties concurrencyLimitProperties, 
+			final Counter rejectedCounter) {
+		this.concurrencyLimitProperties = concurrencyLimitProperties;
+		this.rejectedCounter = rejectedCounter;
+		this.longRttFactor = 2D / (Math.max(1, concurrencyLimitProperties.getLongWindow()) + 1D);
+		this.estimatedLimit = concurrencyLimitProperties.getInitialLimit();
+		this.limit = concurrencyLimitProperties.getInitialLimit();
+	}
+	
+	public boolean tryAcquire() {
+		for (;;) {
+			final int current = this.inFlight.get();
+			if (current >= this.limit) {
+				this.rejectedCounter.increment();
+				return false;
+			}
+			if (this.inFlight.compareAndSet(current, current + 1))
+				return true;
+		}
+	}
+	
+	public void onSuccess(final long rttNanos) {
+		this.update(rttNanos, this.inFlight.getAndDecrement(), false);
+	}
+	
+	public void onDropped() {
+		this.update(0L, this.inFlight.getAndDecrement(), true);
+	}
+	
+	public int getLimit() {
+		return this.limit;
+	}
+	
+	public int getInFlight() {
+		return this.inFlight.get();
+	}
+	
+	private synchronized void update(final long rttNanos, final int inFlightAtCompletion, final boolean dropped) {
+		
+		if (dropped)
+			this.estimatedLimit *= this.concurrencyLimitProperties.getBackoffRatio();
+		else if (rttNanos > 0L) {
+			
+			this.longRttNanos = (this.longRttNanos == 0D) ? 
+					rttNanos : this.longRttNanos + this.longRttFactor * (rttNanos - this.longRttNanos);
+			if (this.longRttNanos / rttNanos > 2D)
+				this.longRttNanos *= 0.95D;
+			if (inFlightAtCompletion < this.estimatedLimit / 2D)
+				return;
+			
+			final double gradient = Math.max(0.5D, 
+					Math.min(1D, this.concurrencyLimitProperties.getRttTolerance() * this.longRttNanos / rttNanos));
+			final double queueSize = Math.sqrt(this.estimatedLimit);
+			final double smoothing = this.concurrencyLimitProperties.getSmoothing();
+			this.estimatedLimit = this.estimatedLimit * (1D - smoothing) 
+					+ (this.estimatedLimit * gradient + queueSize) * smoothing;
+		}
+		
+		this.estimatedLimit = Math.max(this.concurrencyLimitProperties.getMinLimit(), 
+				Math.min(this.concurrencyLimitProperties.getMaxLimit(), this.estimatedLimit));
+		this.limit = (int) this.estimatedLimit;
+	}
+	
+}
+
+
+
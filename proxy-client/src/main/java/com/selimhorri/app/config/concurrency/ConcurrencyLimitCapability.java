@@ -0,0 +1,59 @@
+package com.selimhorri.app.config.concurrency;
+
+import java.io.IOException;
+import java.net.URI;
+
+import org.springframework.http.HttpStatus;
+
+import com.selimhorri.app.exception.wrapper.ConcurrencyLimitExceededException;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+
+public class ConcurrencyLimitCapability implements Capability {
+	
+	private final ConcurrencyLimiterRegistry concurrencyLimiterRegistry;
+	
+	public ConcurrencyLimitCapability(final ConcurrencyLimiterRegistry concurrencyLimiterRegistry) {
+		this.concurrencyLimiterRegistry = concurrencyLimiterRegistry;
+	}
+	
+	@Override
+	public Client enrich(final Client client) {
+		return (request, options) -> this.execute(client, request, options);
+	}
+	
+	private Response execute(final Client client, final Request request, 
+			final Request.Options options) throws IOException {
+		
+		if (!this.concurrencyLimiterRegistry.isEnabled())
+			return client.execute(request, options);
+		
+		final var service = String.valueOf(URI.create(request.url()).getHost());
+		final var limiter = this.concurrencyLimiterRegistry.limiterFor(service);
+		if (!limiter.tryAcquire())
+			throw new ConcurrencyLimitExceededException(String
+					.format("Too many concurrent calls to %s", service));
+		
+		final long start = System.nanoTime();
+		try {
+			final var response = client.execute(request, options);
+			if (response.status() == HttpStatus.SERVICE_UNAVAILABLE.value() 
+					|| response.status() == HttpStatus.TOO_MANY_REQUESTS.value())
+				limiter.onDropped();
+			else
+				limiter.onSuccess(System.nanoTime() - start);
+			return response;
+		}
+		catch (IOException | RuntimeException e) {
+			limiter.onDropped();
+			throw e;
+		}
+	}
+	
+}
+
+
+
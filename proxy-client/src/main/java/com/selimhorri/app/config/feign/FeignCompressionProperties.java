@@ -0,0 +1,28 @@
+package com.selimhorri.app.config.feign;
+
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.feign.compression")
+@Data
+public class FeignCompressionProperties {
+	
+	private boolean requestEnabled = true;
+	private DataSize minRequestSize = DataSize.ofKilobytes(2);
+	private List<String> mimeTypes = List.of("application/json");
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,26 @@
+package com.selimhorri.app.config.feign;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(FeignCompressionProperties.class)
+public class FeignConfig {
+	
+	@Bean
+	public GzipRequestInterceptor gzipRequestInterceptorBean(final FeignCompressionProperties feignCompressionProperties) {
+		return new GzipRequestInterceptor(feignCompressionProperties);
+	}
+	
+	@Bean
+	public FeignMetricsCapability feignMetricsCapabilityBean(final MeterRegistry meterRegistry) {
+		return new FeignMetricsCapability(meterRegistry);
+	}
+	
+}
+
+
+
@@ -0,0 +1,75 @@
+package com.selimhorri.app.config.feign;
+
+import java.io.IOException;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import feign.Capability;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class FeignMetricsCapability implements Capability {
+	
+	private static final String METRIC_NAME = "http.client.feign.requests";
+	private static final String UNKNOWN = "UNKNOWN";
+	
+	private final MeterRegistry meterRegistry;
+	
+	public FeignMetricsCapability(final MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+	
+	@Override
+	public Client enrich(final Client client) {
+		return (request, options) -> this.execute(client, request, options);
+	}
+	
+	private Response execute(final Client client, final Request request, 
+			final Request.Options options) throws IOException {
+		
+		final var sample = Timer.start(this.meterRegistry);
+		var status = UNKNOWN;
+		var exception = "None";
+		try {
+			final var response = client.execute(request, options);
+			status = String.valueOf(response.status());
+			return response;
+		}
+		catch (IOException | RuntimeException e) {
+			status = "IO_ERROR";
+			exception = e.getClass().getSimpleName();
+			throw e;
+		}
+		finally {
+			sample.stop(Timer.builder(METRIC_NAME)
+					.tags(tagsOf(request))
+					.tag("status", status)
+					.tag("exception", exception)
+					.publishPercentileHistogram()
+					.register(this.meterRegistry));
+		}
+	}
+	
+	private static Tags tagsOf(final Request request) {
+		
+		final var template = request.requestTemplate();
+		if (template == null || template.feignTarget() == null || template.methodMetadata() == null)
+			return Tags.of("client", UNKNOWN, "method", UNKNOWN, "service", UNKNOWN);
+		
+		final var configKey = template.methodMetadata().configKey();
+		return Tags.of(
+				"client", template.feignTarget().type().getSimpleName(), 
+				"method", configKey.substring(configKey.indexOf('#') + 1), 
+				"service", template.feignTarget().name());
+	}
+	
+}
+
+
+
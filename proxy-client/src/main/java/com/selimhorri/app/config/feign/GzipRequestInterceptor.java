@@ -0,0 +1,56 @@
+package com.selimhorri.app.config.feign;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+
+public class GzipRequestInterceptor implements RequestInterceptor {
+	
+	private static final String GZIP = "gzip";
+	
+	private final FeignCompressionProperties feignCompressionProperties;
+	
+	public GzipRequestInterceptor(final FeignCompressionProperties feignCompressionProperties) {
+		this.feignCompressionProperties = feignCompressionProperties;
+	}
+	
+	@Override
+	public void apply(final RequestTemplate template) {
+		
+		final var body = template.body();
+		if (!this.feignCompressionProperties.isRequestEnabled() 
+				|| body == null 
+				|| body.length < this.feignCompressionProperties.getMinRequestSize().toBytes() 
+				|| template.headers().containsKey(HttpHeaders.CONTENT_ENCODING) 
+				|| !this.isCompressible(template))
+			return;
+		
+		final var compressed = new ByteArrayOutputStream(body.length / 4);
+		try (final var gzip = new GZIPOutputStream(compressed)) {
+			gzip.write(body);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		
+		template.body(compressed.toByteArray(), null);
+		template.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+	}
+	
+	private boolean isCompressible(final RequestTemplate template) {
+		return template.headers().getOrDefault(HttpHeaders.CONTENT_TYPE, List.of()).stream()
+				.anyMatch(contentType -> this.feignCompressionProperties.getMimeTypes().stream()
+						.anyMatch(contentType::startsWith));
+	}
+	
+}
+
+
+
@@ -15,6 +15,7 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.selimhorri.app.jwt.service.CredentialRevocationService;
 import com.selimhorri.app.jwt.service.JwtService;
 
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 	
 	private final UserDetailsService userDetailsService;
 	private final JwtService jwtService;
+	private final CredentialRevocationService credentialRevocationService;
 	
 	@Override
 	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) 
@@ -46,9 +48,15 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 		
 		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 			
-			final UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+			final var subject = username;
+			final UserDetails userDetails = this.jwtService.extractUserDetails(jwt)
+					.orElseGet(() -> this.userDetailsService.loadUserByUsername(subject));
 			
-			if (this.jwtService.validateToken(jwt, userDetails)) {
+			if (this.jwtService.validateToken(jwt, userDetails) 
+					&& userDetails.isEnabled() 
+					&& userDetails.isAccountNonLocked() 
+					&& userDetails.isAccountNonExpired() 
+					&& !this.credentialRevocationService.isRevoked(userDetails)) {
 				final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
 						new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
 				usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -0,0 +1,96 @@
+package com.selimhorri.app.config.isolation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.sleuth.CurrentTraceContext;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.StringUtils;
+
+import com.selimhorri.app.exception.wrapper.DownstreamTimeoutException;
+
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+
+public class DownstreamIsolation implements DisposableBean {
+	
+	private static final Object ABANDONED = new Object();
+	
+	private final ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry;
+	private final TimeLimiterRegistry timeLimiterRegistry;
+	private final CurrentTraceContext currentTraceContext;
+	private final ScheduledExecutorService timeoutScheduler;
+	
+	public DownstreamIsolation(final ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry, 
+			final TimeLimiterRegistry timeLimiterRegistry, final CurrentTraceContext currentTraceContext) {
+		this.threadPoolBulkheadRegistry = threadPoolBulkheadRegistry;
+		this.timeLimiterRegistry = timeLimiterRegistry;
+		this.currentTraceContext = currentTraceContext;
+		this.timeoutScheduler = Executors.newSingleThreadScheduledExecutor(
+				new CustomizableThreadFactory("downstream-timeout-"));
+	}
+	
+	public <T extends Closeable> T execute(final String service, final Callable<T> exchange) throws IOException {
+		
+		final var name = instanceName(service);
+		final var bulkhead = this.threadPoolBulkheadRegistry.bulkhead(name);
+		final var timeLimiter = this.timeLimiterRegistry.timeLimiter(name);
+		
+		final var handoff = new AtomicReference<Object>();
+		Callable<T> call = () -> {
+			final var response = exchange.call();
+			if (!handoff.compareAndSet(null, response))
+				response.close();
+			return response;
+		};
+		if (this.currentTraceContext != null)
+			call = this.currentTraceContext.wrap(call);
+		final var isolatedCall = call;
+		
+		try {
+			return timeLimiter.executeCompletionStage(this.timeoutScheduler, () -> bulkhead.executeCallable(isolatedCall))
+					.toCompletableFuture()
+					.join();
+		}
+		catch (CompletionException e) {
+			final var cause = e.getCause();
+			if (cause instanceof TimeoutException) {
+				if (!handoff.compareAndSet(null, ABANDONED) && handoff.get() instanceof Closeable)
+					((Closeable) handoff.get()).close();
+				throw new DownstreamTimeoutException(String.format("%s did not respond within %s", 
+						service, timeLimiter.getTimeLimiterConfig().getTimeoutDuration()), cause);
+			}
+			if (cause instanceof IOException)
+				throw (IOException) cause;
+			if (cause instanceof RuntimeException)
+				throw (RuntimeException) cause;
+			throw e;
+		}
+	}
+	
+	private static String instanceName(final String service) {
+		final var words = service.toLowerCase(Locale.ROOT).split("-");
+		return words[0] + Arrays.stream(words, 1, words.length)
+				.map(StringUtils::capitalize)
+				.collect(Collectors.joining());
+	}
+	
+	@Override
+	public void destroy() {
+		this.timeoutScheduler.shutdown();
+	}
+	
+}
+
+
+
@@ -0,0 +1,25 @@
+package com.selimhorri.app.config.isolation;
+
+import java.net.URI;
+
+import feign.Capability;
+import feign.Client;
+
+public class DownstreamIsolationCapability implements Capability {
+	
+	private final DownstreamIsolation downstreamIsolation;
+	
+	public DownstreamIsolationCapability(final DownstreamIsolation downstreamIsolation) {
+		this.downstreamIsolation = downstreamIsolation;
+	}
+	
+	@Override
+	public Client enrich(final Client client) {
+		return (request, options) -> this.downstreamIsolation.execute(String.valueOf(URI.create(request.url()).getHost()), 
+				() -> client.execute(request, options));
+	}
+	
+}
+
+
+
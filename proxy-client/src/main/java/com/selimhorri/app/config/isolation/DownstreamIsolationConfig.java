@@ -0,0 +1,30 @@
+package com.selimhorri.app.config.isolation;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.sleuth.CurrentTraceContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+
+@Configuration
+public class DownstreamIsolationConfig {
+	
+	@Bean
+	public DownstreamIsolation downstreamIsolationBean(
+			final ThreadPoolBulkheadRegistry threadPoolBulkheadRegistry, final TimeLimiterRegistry timeLimiterRegistry, 
+			final ObjectProvider<CurrentTraceContext> currentTraceContext) {
+		return new DownstreamIsolation(threadPoolBulkheadRegistry, timeLimiterRegistry, 
+				currentTraceContext.getIfAvailable());
+	}
+	
+	@Bean
+	public DownstreamIsolationCapability downstreamIsolationCapabilityBean(final DownstreamIsolation downstreamIsolation) {
+		return new DownstreamIsolationCapability(downstreamIsolation);
+	}
+	
+}
+
+
+
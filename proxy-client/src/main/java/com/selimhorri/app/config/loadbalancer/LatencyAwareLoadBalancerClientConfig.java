@@ -0,0 +1,28 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+public class LatencyAwareLoadBalancerClientConfig {
+	
+	@Bean
+	public LatencyAwareLoadBalancer latencyAwareLoadBalancer(final Environment environment, 
+			final LoadBalancerClientFactory loadBalancerClientFactory, 
+			final LatencyAwareLoadBalancerProperties latencyAwareLoadBalancerProperties, 
+			final MeterRegistry meterRegistry) {
+		final var serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+		return new LatencyAwareLoadBalancer(
+				loadBalancerClientFactory.getLazyProvider(serviceId, ServiceInstanceListSupplier.class), 
+				serviceId, 
+				latencyAwareLoadBalancerProperties, 
+				meterRegistry);
+	}
+	
+}
+
+
+
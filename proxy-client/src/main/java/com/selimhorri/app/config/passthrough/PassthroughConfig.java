@@ -0,0 +1,27 @@
+package com.selimhorri.app.config.passthrough;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import com.selimhorri.app.config.isolation.DownstreamIsolation;
+
+@Configuration
+@EnableConfigurationProperties(PassthroughProperties.class)
+public class PassthroughConfig {
+	
+	@Bean
+	public PassthroughFilter passthroughFilterBean(final PassthroughProperties passthroughProperties, 
+			final RestTemplate restTemplate, 
+			final DownstreamIsolation downstreamIsolation, 
+			@Qualifier("handlerExceptionResolver") final HandlerExceptionResolver handlerExceptionResolver) {
+		return new PassthroughFilter(passthroughProperties, restTemplate, downstreamIsolation, handlerExceptionResolver);
+	}
+	
+}
+
+
+
@@ -0,0 +1,132 @@
+package com.selimhorri.app.config.passthrough;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UrlPathHelper;
+
+import com.selimhorri.app.config.isolation.DownstreamIsolation;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class PassthroughFilter extends OncePerRequestFilter {
+	
+	private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "keep-alive", "proxy-authenticate", 
+			"proxy-authorization", "te", "trailer", "transfer-encoding", "upgrade");
+	
+	private final PassthroughProperties passthroughProperties;
+	private final RestTemplate restTemplate;
+	private final DownstreamIsolation downstreamIsolation;
+	private final HandlerExceptionResolver handlerExceptionResolver;
+	private final PathMatcher pathMatcher = new AntPathMatcher();
+	private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+	
+	public PassthroughFilter(final PassthroughProperties passthroughProperties, final RestTemplate restTemplate, 
+			final DownstreamIsolation downstreamIsolation, final HandlerExceptionResolver handlerExceptionResolver) {
+		this.passthroughProperties = passthroughProperties;
+		this.restTemplate = restTemplate;
+		this.downstreamIsolation = downstreamIsolation;
+		this.handlerExceptionResolver = handlerExceptionResolver;
+	}
+	
+	@Override
+	protected boolean shouldNotFilter(final HttpServletRequest request) {
+		return !this.passthroughProperties.isEnabled() 
+				|| !HttpMethod.GET.matches(request.getMethod()) 
+				|| this.routeOf(request).isEmpty();
+	}
+	
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) 
+			throws ServletException, IOException {
+		
+		final var route = this.routeOf(request).orElseThrow();
+		final var upstreamUri = this.upstreamUri(route, this.urlPathHelper.getPathWithinApplication(request), 
+				request.getQueryString());
+		request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, route.getPath());
+		log.info("*** Void, passthrough; stream {} straight from {} *", route.getPath(), upstreamUri);
+		
+		try (final var upstreamResponse = this.exchange(request, upstreamUri)) {
+			copyStatusAndHeaders(upstreamResponse.getRawStatusCode(), upstreamResponse.getHeaders(), response);
+			StreamUtils.copy(upstreamResponse.getBody(), response.getOutputStream());
+		}
+		catch (RuntimeException e) {
+			if (response.isCommitted() || this.handlerExceptionResolver.resolveException(request, response, null, e) == null)
+				throw e;
+		}
+	}
+	
+	private ClientHttpResponse exchange(final HttpServletRequest request, final URI upstreamUri) {
+		final var accept = Optional.ofNullable(request.getHeader(HttpHeaders.ACCEPT))
+				.map(MediaType::parseMediaTypes)
+				.orElseGet(() -> MediaType.parseMediaTypes(MediaType.APPLICATION_JSON_VALUE));
+		try {
+			return this.downstreamIsolation.execute(upstreamUri.getHost(), () -> {
+				final var upstreamRequest = this.restTemplate.getRequestFactory().createRequest(upstreamUri, HttpMethod.GET);
+				upstreamRequest.getHeaders().setAccept(accept);
+				return upstreamRequest.execute();
+			});
+		}
+		catch (IOException e) {
+			throw new ResourceAccessException(String.format("I/O error on GET request for \"%s\": %s", 
+					upstreamUri, e.getMessage()), e);
+		}
+	}
+	
+	private Optional<PassthroughProperties.Route> routeOf(final HttpServletRequest request) {
+		final var path = this.urlPathHelper.getPathWithinApplication(request);
+		return this.passthroughProperties.getRoutes().stream()
+				.filter(route -> this.pathMatcher.match(route.getPath(), path))
+				.findFirst();
+	}
+	
+	private URI upstreamUri(final PassthroughProperties.Route route, final String path, final String query) {
+		final var upstreamPath = UriComponentsBuilder.fromUriString(route.getUri())
+				.buildAndExpand(this.pathMatcher.extractUriTemplateVariables(route.getPath(), path))
+				.encode()
+				.toUriString();
+		return URI.create((query != null) ? upstreamPath + "?" + query : upstreamPath);
+	}
+	
+	private static void copyStatusAndHeaders(final int status, final HttpHeaders headers, final HttpServletResponse response) {
+		response.setStatus(status);
+		if (headers == null)
+			return;
+		if (headers.getContentLength() >= 0)
+			response.setContentLengthLong(headers.getContentLength());
+		headers.forEach((name, values) -> {
+			if (HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT)) 
+					|| HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) 
+					|| values.isEmpty())
+				return;
+			response.setHeader(name, values.get(0));
+			values.stream().skip(1).forEach(value -> response.addHeader(name, value));
+		});
+	}
+	
+}
+
+
+
@@ -0,0 +1,35 @@
+package com.selimhorri.app.config.passthrough;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.passthrough")
+@Data
+public class PassthroughProperties {
+	
+	private boolean enabled = true;
+	private List<Route> routes = new ArrayList<>();
+	
+	@Data
+	public static class Route {
+		
+		private String path;
+		private String uri;
+		
+	}
+	
+}
+
+
+
+
+
+
+
+
+
+
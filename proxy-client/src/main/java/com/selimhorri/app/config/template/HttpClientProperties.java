@@ -0,0 +1,31 @@
+package com.selimhorri.app.config.template;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.http-client")
+@Data
+public class HttpClientProperties {
+	
+	private int maxConnectionsTotal = 200;
+	private int maxConnectionsPerRoute = 50;
+	private Duration connectTimeout = Duration.ofSeconds(2);
+	private Duration readTimeout = Duration.ofSeconds(5);
+	private Duration poolAcquireTimeout = Duration.ofSeconds(1);
+	private Duration idleEvictionTimeout = Duration.ofSeconds(30);
+	private Duration validateAfterInactivity = Duration.ofSeconds(2);
+	
+}
+
+
+
+
+
+
+
+
+
+
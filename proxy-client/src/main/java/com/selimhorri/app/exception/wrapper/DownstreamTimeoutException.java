@@ -0,0 +1,36 @@
+package com.selimhorri.app.exception.wrapper;
+
+public class DownstreamTimeoutException extends RuntimeException {
+	
+	private static final long serialVersionUID = 1L;
+	
+	public DownstreamTimeoutException() {
+		super();
+	}
+	
+	public DownstreamTimeoutException(String message, Throwable cause) {
+		super(message, cause);
+	}
+	
+	public DownstreamTimeoutException(String message) {
+		super(message);
+	}
+	
+	public DownstreamTimeoutException(Throwable cause) {
+		super(cause);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
+
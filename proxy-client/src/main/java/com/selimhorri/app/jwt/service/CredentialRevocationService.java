@@ -0,0 +1,12 @@
+package com.selimhorri.app.jwt.service;
+
+import org.springframework.security.core.userdetails.UserDetails;
+
+public interface CredentialRevocationService {
+	
+	boolean isRevoked(final UserDetails userDetails);
+	
+}
+
+
+
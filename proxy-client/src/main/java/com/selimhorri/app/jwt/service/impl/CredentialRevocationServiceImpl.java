@@ -0,0 +1,57 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.selimhorri.app.jwt.service.CredentialRevocationService;
+import com.selimhorri.app.security.JwtProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class CredentialRevocationServiceImpl implements CredentialRevocationService {
+	
+	private final boolean enabled;
+	private final LoadingCache<String, UserDetails> credentials;
+	
+	public CredentialRevocationServiceImpl(final UserDetailsService userDetailsService, 
+			final JwtProperties jwtProperties, final MeterRegistry meterRegistry) {
+		final var revocationCheck = jwtProperties.getRevocationCheck();
+		this.enabled = revocationCheck.isEnabled();
+		this.credentials = Caffeine.newBuilder()
+				.maximumSize(revocationCheck.getMaximumSize())
+				.expireAfterWrite(revocationCheck.getTtl())
+				.recordStats()
+				.build(userDetailsService::loadUserByUsername);
+		CaffeineCacheMetrics.monitor(meterRegistry, this.credentials, "credentials");
+	}
+	
+	@Override
+	public boolean isRevoked(final UserDetails userDetails) {
+		
+		if (!this.enabled)
+			return false;
+		
+		try {
+			final var current = this.credentials.get(userDetails.getUsername());
+			return !current.isEnabled() 
+					|| !current.isAccountNonLocked() 
+					|| !current.isAccountNonExpired() 
+					|| !current.getAuthorities().equals(userDetails.getAuthorities());
+		}
+		catch (RuntimeException e) {
+			log.warn("**Credential revocation check failed for {}, rejecting token: {}*", userDetails.getUsername(), e.getMessage());
+			return true;
+		}
+	}
+	
+}
+
+
+
@@ -1,6 +1,7 @@
 package com.selimhorri.app.jwt.service.impl;
 
 import java.util.Date;
+import java.util.Optional;
 import java.util.function.Function;
 
 import org.springframework.security.core.userdetails.UserDetails;
@@ -38,6 +39,12 @@ public class JwtServiceImpl implements JwtService {
 		return this.jwtUtil.extractClaims(token, claimsResolver);
 	}
 	
+	@Override
+	public Optional<UserDetails> extractUserDetails(final String token) {
+		log.info("**Optional<UserDetails>, jwt service extract user details from given token claims!*");
+		return this.jwtUtil.extractUserDetails(token);
+	}
+	
 	@Override
 	public String generateToken(final UserDetails userDetails) {
 		log.info("**String, jwt service generate token from given userDetails!*");
@@ -1,23 +1,57 @@
 package com.selimhorri.app.jwt.util.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
 import com.selimhorri.app.jwt.util.JwtUtil;
+import com.selimhorri.app.security.JwtProperties;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Component
 public class JwtUtilImpl implements JwtUtil {
 	
-	private static final String SECRET_KEY = "secret";
+	private static final String ROLE_CLAIM = "role";
+	private static final String ENABLED_CLAIM = "enabled";
+	private static final String ACCOUNT_NON_EXPIRED_CLAIM = "accountNonExpired";
+	private static final String ACCOUNT_NON_LOCKED_CLAIM = "accountNonLocked";
+	private static final String CREDENTIALS_NON_EXPIRED_CLAIM = "credentialsNonExpired";
+	
+	private final String secret;
+	private final Cache<String, Claims> verifiedClaims;
+	
+	public JwtUtilImpl(final JwtProperties jwtProperties, final MeterRegistry meterRegistry) {
+		this.secret = jwtProperties.getSecret();
+		this.verifiedClaims = Caffeine.newBuilder()
+				.maximumSize(jwtProperties.getClaimsCache().getMaximumSize())
+				.expireAfter(new ExpireAtTokenExpiration())
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, this.verifiedClaims, "jwtClaims");
+	}
 	
 	@Override
 	public String extractUsername(final String token) {
@@ -36,16 +70,51 @@ public class JwtUtilImpl implements JwtUtil {
 	}
 	
 	private Claims extractAllClaims(final String token) {
-		return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
+		return this.verifiedClaims.get(digest(token), 
+				key -> Jwts.parser().setSigningKey(this.secret).parseClaimsJws(token).getBody());
 	}
 	
-	private Boolean isTokenExpired(final String token) {
-		return this.extractExpiration(token).before(new Date());
+	private static String digest(final String token) {
+		try {
+			return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256")
+					.digest(token.getBytes(StandardCharsets.US_ASCII)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+	
+	private Boolean isTokenExpired(final Claims claims) {
+		return claims.getExpiration().before(new Date());
+	}
+	
+	@Override
+	public Optional<UserDetails> extractUserDetails(final String token) {
+		final Claims claims = this.extractAllClaims(token);
+		final String role = claims.get(ROLE_CLAIM, String.class);
+		if (role == null)
+			return Optional.empty();
+		return Optional.of(new UserDetailsImpl(CredentialDto.builder()
+				.username(claims.getSubject())
+				.roleBasedAuthority(RoleBasedAuthority.valueOf(role))
+				.isEnabled(claims.get(ENABLED_CLAIM, Boolean.class))
+				.isAccountNonExpired(claims.get(ACCOUNT_NON_EXPIRED_CLAIM, Boolean.class))
+				.isAccountNonLocked(claims.get(ACCOUNT_NON_LOCKED_CLAIM, Boolean.class))
+				.isCredentialsNonExpired(claims.get(CREDENTIALS_NON_EXPIRED_CLAIM, Boolean.class))
+				.build()));
 	}
 	
 	@Override
 	public String generateToken(final UserDetails userDetails) {
 		final Map<String, Object> claims = new HashMap<>();
+		userDetails.getAuthorities().stream()
+				.map(GrantedAuthority::getAuthority)
+				.findFirst()
+				.ifPresent(role -> claims.put(ROLE_CLAIM, role));
+		claims.put(ENABLED_CLAIM, userDetails.isEnabled());
+		claims.put(ACCOUNT_NON_EXPIRED_CLAIM, userDetails.isAccountNonExpired());
+		claims.put(ACCOUNT_NON_LOCKED_CLAIM, userDetails.isAccountNonLocked());
+		claims.put(CREDENTIALS_NON_EXPIRED_CLAIM, userDetails.isCredentialsNonExpired());
 		return this.createToken(claims, userDetails.getUsername());
 	}
 	
@@ -55,18 +124,40 @@ public class JwtUtilImpl implements JwtUtil {
 					.setSubject(subject)
 					.setIssuedAt(new Date(System.currentTimeMillis()))
 					.setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
-					.signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+					.signWith(SignatureAlgorithm.HS256, this.secret)
 		.compact();
 	}
 	
 	@Override
 	public Boolean validateToken(final String token, final UserDetails userDetails) {
-		final String username = this.extractUsername(token);
+		final Claims claims = this.extractAllClaims(token);
 		return (
-			username.equals(userDetails.getUsername()) && !isTokenExpired(token)
+			claims.getSubject().equals(userDetails.getUsername()) && !isTokenExpired(claims)
 		);
 	}
 	
+	private static final class ExpireAtTokenExpiration implements Expiry<String, Claims> {
+		
+		@Override
+		public long expireAfterCreate(final String key, final Claims claims, final long currentTime) {
+			return (claims.getExpiration() == null) ? 0L 
+					: Math.max(0L, TimeUnit.MILLISECONDS.toNanos(claims.getExpiration().getTime() - System.currentTimeMillis()));
+		}
+		
+		@Override
+		public long expireAfterUpdate(final String key, final Claims claims, final long currentTime, 
+				final long currentDuration) {
+			return currentDuration;
+		}
+		
+		@Override
+		public long expireAfterRead(final String key, final Claims claims, final long currentTime, 
+				final long currentDuration) {
+			return currentDuration;
+		}
+		
+	}
+	
 	
 	
 }
@@ -0,0 +1,36 @@
+package com.selimhorri.app.security;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@Data
+@ConfigurationProperties(prefix = "app.jwt")
+public class JwtProperties {
+	
+	private String secret = "secret";
+	private ClaimsCache claimsCache = new ClaimsCache();
+	private RevocationCheck revocationCheck = new RevocationCheck();
+	
+	@Data
+	public static class ClaimsCache {
+		
+		private long maximumSize = 10000;
+		
+	}
+	
+	@Data
+	public static class RevocationCheck {
+		
+		private boolean enabled = false;
+		private Duration ttl = Duration.ofSeconds(30);
+		private long maximumSize = 10000;
+		
+	}
+	
+}
+
+
+
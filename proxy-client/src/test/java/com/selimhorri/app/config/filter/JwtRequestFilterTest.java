@@ -0,0 +1,147 @@
+package com.selimhorri.app.config.filter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.jwt.service.impl.CredentialRevocationServiceImpl;
+import com.selimhorri.app.jwt.service.impl.JwtServiceImpl;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+import com.selimhorri.app.security.JwtProperties;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtRequestFilterTest {
+
+    private final UserDetailsService userDetailsService = mock(UserDetailsService.class);
+    private final JwtProperties jwtProperties = new JwtProperties();
+    private final JwtUtilImpl jwtUtil = new JwtUtilImpl(jwtProperties, new SimpleMeterRegistry());
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    private JwtRequestFilter filter() {
+        return new JwtRequestFilter(userDetailsService, new JwtServiceImpl(jwtUtil), 
+                new CredentialRevocationServiceImpl(userDetailsService, jwtProperties, new SimpleMeterRegistry()));
+    }
+
+    private static UserDetailsImpl userDetails(final RoleBasedAuthority role, final boolean accountNonLocked) {
+        return new UserDetailsImpl(CredentialDto.builder()
+                .username("selimhorri")
+                .password("$2a$04$encoded")
+                .roleBasedAuthority(role)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(accountNonLocked)
+                .isCredentialsNonExpired(true)
+                .build());
+    }
+
+    private static List<String> authenticate(final JwtRequestFilter filter, final String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        final var request = new MockHttpServletRequest("GET", "/app/api/products");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        final var authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    void shouldAuthenticateFromClaimsWithoutLoadingUser() throws Exception {
+        // Given
+        final var token = jwtUtil.generateToken(userDetails(RoleBasedAuthority.ROLE_ADMIN, true));
+
+        // When
+        final var authorities = authenticate(filter(), token);
+
+        // Then
+        assertEquals(List.of("ROLE_ADMIN"), authorities);
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void shouldFallBackToUserDetailsServiceForTokenWithoutClaims() throws Exception {
+        // Given
+        final var token = Jwts.builder()
+                .setSubject("selimhorri")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(SignatureAlgorithm.HS256, jwtProperties.getSecret())
+                .compact();
+        when(userDetailsService.loadUserByUsername("selimhorri")).thenReturn(userDetails(RoleBasedAuthority.ROLE_USER, true));
+
+        // When
+        final var authorities = authenticate(filter(), token);
+
+        // Then
+        assertEquals(List.of("ROLE_USER"), authorities);
+        verify(userDetailsService).loadUserByUsername("selimhorri");
+    }
+
+    @Test
+    void shouldRejectTokenWithLockedAccountClaim() throws Exception {
+        // Given
+        final var token = jwtUtil.generateToken(userDetails(RoleBasedAuthority.ROLE_USER, false));
+
+        // When / Then
+        assertNull(authenticate(filter(), token));
+    }
+
+    @Test
+    void shouldRejectCachedTokenOnceCredentialIsLocked() throws Exception {
+        // Given
+        jwtProperties.getRevocationCheck().setEnabled(true);
+        jwtProperties.getRevocationCheck().setTtl(Duration.ZERO);
+        final var filter = filter();
+        final var token = jwtUtil.generateToken(userDetails(RoleBasedAuthority.ROLE_USER, true));
+        when(userDetailsService.loadUserByUsername("selimhorri")).thenReturn(userDetails(RoleBasedAuthority.ROLE_USER, true));
+        assertEquals(List.of("ROLE_USER"), authenticate(filter, token));
+
+        // When
+        when(userDetailsService.loadUserByUsername("selimhorri")).thenReturn(userDetails(RoleBasedAuthority.ROLE_USER, false));
+
+        // Then
+        assertNull(authenticate(filter, token));
+    }
+
+    @Test
+    void shouldRejectCachedTokenOnceRoleChanges() throws Exception {
+        // Given
+        jwtProperties.getRevocationCheck().setEnabled(true);
+        jwtProperties.getRevocationCheck().setTtl(Duration.ZERO);
+        final var filter = filter();
+        final var token = jwtUtil.generateToken(userDetails(RoleBasedAuthority.ROLE_ADMIN, true));
+        when(userDetailsService.loadUserByUsername("selimhorri")).thenReturn(userDetails(RoleBasedAuthority.ROLE_ADMIN, true));
+        assertEquals(List.of("ROLE_ADMIN"), authenticate(filter, token));
+
+        // When
+        when(userDetailsService.loadUserByUsername("selimhorri")).thenReturn(userDetails(RoleBasedAuthority.ROLE_USER, true));
+
+        // Then
+        assertNull(authenticate(filter, token));
+    }
+
+}
@@ -0,0 +1,93 @@
+package com.selimhorri.app.config.isolation;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.exception.wrapper.DownstreamTimeoutException;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+
+class DownstreamIsolationCapabilityTest {
+
+    private final DownstreamIsolation downstreamIsolation = new DownstreamIsolation(
+            ThreadPoolBulkheadRegistry.ofDefaults(),
+            TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(100)).build()),
+            null);
+
+    private final DownstreamIsolationCapability capability = new DownstreamIsolationCapability(downstreamIsolation);
+
+    private final Request request = Request.create(Request.HttpMethod.GET, 
+            "http://PRODUCT-SERVICE/product-service/api/products", Map.of(), null, StandardCharsets.UTF_8, null);
+
+    private static Client respondingAfter(final long millis, final CountDownLatch closed) {
+        return (request, options) -> {
+            try {
+                Thread.sleep(millis);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            final var body = new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)) {
+                @Override
+                public void close() {
+                    closed.countDown();
+                }
+            };
+            return Response.builder()
+                    .status(200)
+                    .request(request)
+                    .headers(Map.of())
+                    .body(body, 2)
+                    .build();
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        downstreamIsolation.destroy();
+    }
+
+    @Test
+    void shouldReturnResponseWithinTimeout() throws Exception {
+        // Given
+        final var closed = new CountDownLatch(1);
+        final var client = capability.enrich(respondingAfter(0, closed));
+
+        // When
+        final var response = client.execute(request, new Request.Options());
+
+        // Then
+        assertEquals(200, response.status());
+        assertEquals(1, closed.getCount());
+    }
+
+    @Test
+    void shouldCloseResponseArrivingAfterTimeout() throws Exception {
+        // Given
+        final var closed = new CountDownLatch(1);
+        final var client = capability.enrich(respondingAfter(300, closed));
+
+        // When
+        final var e = assertThrows(DownstreamTimeoutException.class, 
+                () -> client.execute(request, new Request.Options()));
+
+        // Then
+        assertTrue(e.getMessage().startsWith("PRODUCT-SERVICE did not respond"));
+        assertTrue(closed.await(1, TimeUnit.SECONDS));
+    }
+
+}
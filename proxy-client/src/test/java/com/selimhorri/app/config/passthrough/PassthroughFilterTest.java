@@ -0,0 +1,192 @@
+package com.selimhorri.app.config.passthrough;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.ModelAndView;
+
+import com.selimhorri.app.config.isolation.DownstreamIsolation;
+import com.selimhorri.app.exception.wrapper.DownstreamTimeoutException;
+
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+
+class PassthroughFilterTest {
+
+    private static final String UPSTREAM = "http://PRODUCT-SERVICE/product-service/api/products";
+
+    private final RestTemplate restTemplate = new RestTemplate();
+    private final MockRestServiceServer upstream = MockRestServiceServer.bindTo(restTemplate).build();
+    private final DownstreamIsolation downstreamIsolation = new DownstreamIsolation(
+            ThreadPoolBulkheadRegistry.ofDefaults(),
+            TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(Duration.ofMillis(200)).build()),
+            null);
+    private final AtomicReference<Exception> resolved = new AtomicReference<>();
+    private final HandlerExceptionResolver resolver = (request, response, handler, e) -> {
+        resolved.set(e);
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        return new ModelAndView();
+    };
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+    private final AtomicBoolean chained = new AtomicBoolean();
+
+    private PassthroughFilter filter(final HandlerExceptionResolver handlerExceptionResolver) {
+        final var route = new PassthroughProperties.Route();
+        route.setPath("/api/products");
+        route.setUri(UPSTREAM);
+        final var properties = new PassthroughProperties();
+        properties.setRoutes(List.of(route));
+        return new PassthroughFilter(properties, restTemplate, downstreamIsolation, handlerExceptionResolver);
+    }
+
+    private static MockHttpServletRequest request(final String method, final String path) {
+        final var request = new MockHttpServletRequest(method, "/app" + path);
+        request.setContextPath("/app");
+        return request;
+    }
+
+    @AfterEach
+    void tearDown() {
+        downstreamIsolation.destroy();
+    }
+
+    @Test
+    void shouldStreamMatchingGetWithStatusAndHeaders() throws Exception {
+        // Given
+        final var request = request("GET", "/api/products");
+        request.setQueryString("page=1");
+        request.addHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE);
+        final var upstreamHeaders = new HttpHeaders();
+        upstreamHeaders.add("X-Trace", "a");
+        upstreamHeaders.add("X-Trace", "b");
+        upstreamHeaders.add(HttpHeaders.CONNECTION, "keep-alive");
+        upstream.expect(requestTo(UPSTREAM + "?page=1"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE))
+                .andRespond(withSuccess("{\"collection\":[]}", MediaType.APPLICATION_JSON).headers(upstreamHeaders));
+
+        // When
+        filter(resolver).doFilter(request, response, (req, res) -> chained.set(true));
+
+        // Then
+        upstream.verify();
+        assertFalse(chained.get());
+        assertEquals(200, response.getStatus());
+        assertEquals("{\"collection\":[]}", response.getContentAsString());
+        assertEquals(MediaType.APPLICATION_JSON_VALUE, response.getContentType());
+        assertEquals(List.of("a", "b"), response.getHeaders("X-Trace"));
+        assertNull(response.getHeader(HttpHeaders.CONNECTION));
+        assertEquals("/api/products", request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+    }
+
+    @Test
+    void shouldLeaveUnmatchedPathsAndNonGetRequestsToTheChain() throws Exception {
+        // Given
+        final var passthroughFilter = filter(resolver);
+
+        // When
+        passthroughFilter.doFilter(request("GET", "/api/products/1"), response, (req, res) -> chained.set(true));
+        final boolean unmatchedChained = chained.getAndSet(false);
+        passthroughFilter.doFilter(request("POST", "/api/products"), response, (req, res) -> chained.set(true));
+
+        // Then
+        upstream.verify();
+        assertTrue(unmatchedChained);
+        assertTrue(chained.get());
+    }
+
+    @Test
+    void shouldRelayUpstreamErrorVerbatim() throws Exception {
+        // Given
+        upstream.expect(requestTo(UPSTREAM))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"msg\":\"not found\"}"));
+
+        // When
+        filter(resolver).doFilter(request("GET", "/api/products"), response, (req, res) -> chained.set(true));
+
+        // Then
+        assertEquals(404, response.getStatus());
+        assertEquals("{\"msg\":\"not found\"}", response.getContentAsString());
+        assertNull(resolved.get());
+    }
+
+    @Test
+    void shouldResolveIoFailureThroughHandlerExceptionResolver() throws Exception {
+        // Given
+        upstream.expect(requestTo(UPSTREAM))
+                .andRespond(request -> {
+                    throw new IOException("Connection refused");
+                });
+
+        // When
+        filter(resolver).doFilter(request("GET", "/api/products"), response, (req, res) -> chained.set(true));
+
+        // Then
+        assertTrue(resolved.get() instanceof ResourceAccessException);
+        assertEquals(503, response.getStatus());
+    }
+
+    @Test
+    void shouldTimeOutSlowUpstreamThroughDownstreamIsolation() throws Exception {
+        // Given
+        upstream.expect(requestTo(UPSTREAM))
+                .andRespond(request -> {
+                    try {
+                        Thread.sleep(1_000);
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return withSuccess().createResponse(request);
+                });
+
+        // When
+        filter(resolver).doFilter(request("GET", "/api/products"), response, (req, res) -> chained.set(true));
+
+        // Then
+        assertTrue(resolved.get() instanceof DownstreamTimeoutException);
+        assertTrue(resolved.get().getMessage().startsWith("PRODUCT-SERVICE did not respond"));
+        assertEquals(503, response.getStatus());
+    }
+
+    @Test
+    void shouldRethrowWhenNoResolverHandlesFailure() {
+        // Given
+        upstream.expect(requestTo(UPSTREAM))
+                .andRespond(request -> {
+                    throw new IOException("Connection refused");
+                });
+        final var passthroughFilter = filter((request, response, handler, e) -> null);
+
+        // When / Then
+        assertThrows(ResourceAccessException.class, () -> passthroughFilter
+                .doFilter(request("GET", "/api/products"), response, (req, res) -> chained.set(true)));
+    }
+
+}
@@ -0,0 +1,125 @@
+package com.selimhorri.app.jwt.util.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.security.JwtProperties;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtUtilImplTest {
+
+    private static final String SECRET = "secret";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JwtUtilImpl jwtUtil = new JwtUtilImpl(new JwtProperties(), meterRegistry);
+
+    private static UserDetailsImpl userDetails(final RoleBasedAuthority role, final boolean accountNonLocked) {
+        return new UserDetailsImpl(CredentialDto.builder()
+                .username("selimhorri")
+                .password("$2a$04$encoded")
+                .roleBasedAuthority(role)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(accountNonLocked)
+                .isCredentialsNonExpired(true)
+                .build());
+    }
+
+    private static String legacyToken(final long expiresInMillis) {
+        return Jwts.builder()
+                .setSubject("selimhorri")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + expiresInMillis))
+                .signWith(SignatureAlgorithm.HS256, SECRET)
+                .compact();
+    }
+
+    private double cacheGets(final String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "jwtClaims").tag("result", result).functionCounter().count();
+    }
+
+    @Test
+    void shouldMapClaimsToAuthoritiesAndAccountFlags() {
+        // Given
+        final var token = jwtUtil.generateToken(userDetails(RoleBasedAuthority.ROLE_ADMIN, false));
+
+        // When
+        final var userDetails = jwtUtil.extractUserDetails(token).orElseThrow();
+
+        // Then
+        assertEquals("selimhorri", userDetails.getUsername());
+        assertEquals(List.of("ROLE_ADMIN"), userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList()));
+        assertTrue(userDetails.isEnabled());
+        assertTrue(userDetails.isAccountNonExpired());
+        assertFalse(userDetails.isAccountNonLocked());
+        assertTrue(userDetails.isCredentialsNonExpired());
+        assertNull(userDetails.getPassword());
+    }
+
+    @Test
+    void shouldReturnEmptyForTokenWithoutRoleClaim() {
+        // When / Then
+        assertTrue(jwtUtil.extractUserDetails(legacyToken(60_000L)).isEmpty());
+        assertEquals("selimhorri", jwtUtil.extractUsername(legacyToken(60_000L)));
+    }
+
+    @Test
+    void shouldVerifyTokenOnceAndServeClaimsFromCache() {
+        // Given
+        final var token = jwtUtil.generateToken(userDetails(RoleBasedAuthority.ROLE_USER, true));
+
+        // When
+        jwtUtil.extractUsername(token);
+        jwtUtil.extractUserDetails(token);
+        jwtUtil.extractExpiration(token);
+
+        // Then
+        assertEquals(1.0, cacheGets("miss"));
+        assertEquals(2.0, cacheGets("hit"));
+    }
+
+    @Test
+    void shouldExpireCachedClaimsAtTokenExpiration() throws Exception {
+        // Given
+        final var token = legacyToken(1_500L);
+        assertEquals("selimhorri", jwtUtil.extractUsername(token));
+
+        // When
+        Thread.sleep(2_000L);
+
+        // Then
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.extractUsername(token));
+        assertEquals(2.0, cacheGets("miss"));
+    }
+
+    @Test
+    void shouldRejectTokenSignedWithAnotherSecret() {
+        // Given
+        final var token = Jwts.builder()
+                .setSubject("selimhorri")
+                .claim("role", "ROLE_ADMIN")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000L))
+                .signWith(SignatureAlgorithm.HS256, "another-secret")
+                .compact();
+
+        // When / Then
+        assertThrows(SignatureException.class, () -> jwtUtil.extractUserDetails(token));
+    }
+
+}
@@ -0,0 +1,95 @@
+package com.selimhorri.app.performance;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+import com.selimhorri.app.security.JwtProperties;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cost of the token checks JwtRequestFilter performs for one request.
+ * "uncached" replays the previous behaviour (three full parse and HMAC
+ * verifications), "cached" runs the same calls against JwtUtilImpl.
+ * 
+ * Run with: mvn test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ * then java -cp target/test-classes:target/classes:$(cat cp.txt) com.selimhorri.app.performance.JwtUtilBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+	
+	private JwtUtilImpl jwtUtil;
+	private UserDetails userDetails;
+	private String token;
+	
+	@Setup
+	public void setUp() {
+		this.jwtUtil = new JwtUtilImpl(new JwtProperties(), new SimpleMeterRegistry());
+		this.userDetails = new UserDetailsImpl(CredentialDto.builder()
+				.username("selimhorri")
+				.roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+				.isEnabled(true)
+				.isAccountNonExpired(true)
+				.isAccountNonLocked(true)
+				.isCredentialsNonExpired(true)
+				.build());
+		this.token = this.jwtUtil.generateToken(this.userDetails);
+	}
+	
+	private Claims parse() {
+		return Jwts.parser().setSigningKey("secret").parseClaimsJws(this.token).getBody();
+	}
+	
+	@Benchmark
+	public void uncached(final Blackhole blackhole) {
+		final String username = this.parse().getSubject();
+		blackhole.consume(username);
+		blackhole.consume(this.parse().getSubject().equals(this.userDetails.getUsername()) 
+				&& !this.parse().getExpiration().before(new Date()));
+	}
+	
+	@Benchmark
+	public void cached(final Blackhole blackhole) {
+		blackhole.consume(this.jwtUtil.extractUsername(this.token));
+		blackhole.consume(this.jwtUtil.extractUserDetails(this.token));
+		blackhole.consume(this.jwtUtil.validateToken(this.token, this.userDetails));
+	}
+	
+	public static void main(final String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(JwtUtilBenchmark.class.getSimpleName())
+				.build())
+			.run();
+	}
+	
+}
+
+
+
@@ -0,0 +1,94 @@
+package com.selimhorri.app.client;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.client.ClientProperties;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.helper.PartitionHelper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ProductClient {
+	
+	private static final String SERVICE_ID = "PRODUCT-SERVICE";
+	private static final ParameterizedTypeReference<Map<Integer, ProductDto>> PRODUCT_MAP_TYPE = 
+			new ParameterizedTypeReference<>() {};
+	
+	private final RestTemplate restTemplate;
+	private final ClientProperties clientProperties;
+	private final EnrichmentExecutor enrichmentExecutor;
+	private final RequestHedger requestHedger;
+	
+	public ProductDto findById(final Integer productId) {
+		return this.enrichmentExecutor.await(this.enrichmentExecutor.supplyAsync(SERVICE_ID, 
+				() -> this.fetchById(productId), 
+				() -> ProductDto.builder().productId(productId).build()));
+	}
+	
+	public Map<Integer, ProductDto> findAllById(final Collection<Integer> productIds) {
+		return this.enrichmentExecutor.await(this.findAllByIdAsync(productIds));
+	}
+	
+	public CompletableFuture<Map<Integer, ProductDto>> findAllByIdAsync(final Collection<Integer> productIds) {
+		
+		final var distinctProductIds = productIds.stream()
+				.filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+		final var chunks = PartitionHelper.partition(distinctProductIds, this.clientProperties.getProductBatchSize());
+		log.info("*** Map, client; fetch {} products in {} batch call(s) *", distinctProductIds.size(), chunks.size());
+		
+		final var lookups = chunks.stream()
+				.map(chunk -> this.enrichmentExecutor.supplyAsync(SERVICE_ID, () -> this.fetchChunk(chunk), Map::<Integer, ProductDto>of))
+				.collect(Collectors.toUnmodifiableList());
+		
+		return CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new))
+				.thenApply(v -> {
+					final Map<Integer, ProductDto> products = new HashMap<>(distinctProductIds.size());
+					lookups.forEach(lookup -> products.putAll(lookup.join()));
+					return products;
+				});
+	}
+	
+	private ProductDto fetchById(final Integer productId) {
+		return this.requestHedger.call(SERVICE_ID, () -> this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+				.PRODUCT_SERVICE_API_URL + "/" + productId, ProductDto.class));
+	}
+	
+	private Map<Integer, ProductDto> fetchChunk(final List<Integer> chunk) {
+		final var response = this.requestHedger.call(SERVICE_ID, () -> this.restTemplate.exchange(
+				AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/lookup", 
+				HttpMethod.POST, new HttpEntity<>(chunk), PRODUCT_MAP_TYPE)
+			.getBody());
+		return (response != null) ? response : Map.of();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,28 @@
+package com.selimhorri.app.config.client;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+@ConfigurationProperties(prefix = "app.enrichment")
+@Data
+public class EnrichmentProperties {
+	
+	private int poolSize = 16;
+	private int queueCapacity = 256;
+	private int maxInFlightPerService = 8;
+	private Duration timeout = Duration.ofSeconds(5);
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,28 @@
+package com.selimhorri.app.config.concurrency;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+	
+	@Bean
+	public ConcurrencyLimiterRegistry concurrencyLimiterRegistryBean(
+			final ConcurrencyLimitProperties concurrencyLimitProperties, final MeterRegistry meterRegistry) {
+		return new ConcurrencyLimiterRegistry(concurrencyLimitProperties, meterRegistry);
+	}
+	
+	@Bean
+	public ConcurrencyLimitInterceptor concurrencyLimitInterceptorBean(
+			final ConcurrencyLimiterRegistry concurrencyLimiterRegistry) {
+		return new ConcurrencyLimitInterceptor(concurrencyLimiterRegistry);
+	}
+	
+}
+
+
+
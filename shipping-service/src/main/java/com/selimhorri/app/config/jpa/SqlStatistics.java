@@ -0,0 +1,56 @@
+package com.selimhorri.app.config.jpa;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class SqlStatistics {
+	
+	private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+	
+	private final AtomicInteger statementCount = new AtomicInteger();
+	private final AtomicInteger entityLoadCount = new AtomicInteger();
+	private final AtomicLong jdbcNanos = new AtomicLong();
+	
+	public static void bind(final SqlStatistics statistics) {
+		CURRENT.set(statistics);
+	}
+	
+	public static void unbind() {
+		CURRENT.remove();
+	}
+	
+	static void statementPrepared() {
+		final var statistics = CURRENT.get();
+		if (statistics != null)
+			statistics.statementCount.incrementAndGet();
+	}
+	
+	static void statementExecuted(final long nanos) {
+		final var statistics = CURRENT.get();
+		if (statistics != null)
+			statistics.jdbcNanos.addAndGet(nanos);
+	}
+	
+	static void entityLoaded() {
+		final var statistics = CURRENT.get();
+		if (statistics != null)
+			statistics.entityLoadCount.incrementAndGet();
+	}
+	
+	public int getStatementCount() {
+		return this.statementCount.get();
+	}
+	
+	public int getEntityLoadCount() {
+		return this.entityLoadCount.get();
+	}
+	
+	public double getJdbcMillis() {
+		return (double) this.jdbcNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+	
+}
+
+
+
@@ -0,0 +1,51 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+public class InstanceExclusions {
+	
+	private static final ThreadLocal<InstanceExclusions> CURRENT = new ThreadLocal<>();
+	
+	private final Set<String> instanceKeys = ConcurrentHashMap.newKeySet();
+	
+	public static InstanceExclusions current() {
+		return CURRENT.get();
+	}
+	
+	public <T> T callWith(final Supplier<T> call) {
+		final var previous = CURRENT.get();
+		CURRENT.set(this);
+		try {
+			return call.get();
+		}
+		finally {
+			if (previous != null)
+				CURRENT.set(previous);
+			else
+				CURRENT.remove();
+		}
+	}
+	
+	public List<ServiceInstance> filter(final List<ServiceInstance> instances) {
+		if (this.instanceKeys.isEmpty())
+			return instances;
+		final var remaining = instances.stream()
+				.filter(instance -> !this.instanceKeys.contains(LatencyAwareLoadBalancer.keyOf(instance)))
+				.collect(Collectors.toUnmodifiableList());
+		return remaining.isEmpty() ? instances : remaining;
+	}
+	
+	public void exclude(final ServiceInstance instance) {
+		this.instanceKeys.add(LatencyAwareLoadBalancer.keyOf(instance));
+	}
+	
+}
+
+
+
@@ -4,15 +4,15 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
+import javax.transaction.Transactional.TxType;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.client.EnrichmentExecutor;
+import com.selimhorri.app.client.OrderClient;
+import com.selimhorri.app.client.ProductClient;
 import com.selimhorri.app.domain.id.OrderItemId;
-import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
-import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.exception.wrapper.OrderItemNotFoundException;
 import com.selimhorri.app.helper.OrderItemMappingHelper;
 import com.selimhorri.app.repository.OrderItemRepository;
@@ -28,21 +28,29 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderItemServiceImpl implements OrderItemService {
 	
 	private final OrderItemRepository orderItemRepository;
-	private final RestTemplate restTemplate;
+	private final ProductClient productClient;
+	private final OrderClient orderClient;
+	private final EnrichmentExecutor enrichmentExecutor;
 	
 	@Override
+	@Transactional(TxType.NOT_SUPPORTED)
 	public List<OrderItemDto> findAll() {
 		log.info("*** OrderItemDto List, service; fetch all orderItems *");
-		return this.orderItemRepository.findAll()
+		final var orderItemDtos = this.orderItemRepository.findAll()
 				.stream()
 					.map(OrderItemMappingHelper::map)
-					.map(o -> {
-						o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-						o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-						return o;
-					})
+					.collect(Collectors.toUnmodifiableList());
+		final var productDtos = this.productClient.findAllByIdAsync(orderItemDtos.stream()
+				.map(OrderItemDto::getProductId)
+				.collect(Collectors.toUnmodifiableList()));
+		final var lookups = orderItemDtos.stream()
+				.map(o -> this.orderClient.findByIdAsync(o.getOrderDto().getOrderId())
+						.thenAccept(o::setOrderDto))
+				.collect(Collectors.toList());
+		lookups.add(productDtos.thenAccept(products -> orderItemDtos
+				.forEach(o -> o.setProductDto(products.getOrDefault(o.getProductId(), o.getProductDto())))));
+		this.enrichmentExecutor.awaitAll(lookups);
+		return orderItemDtos.stream()
 					.distinct()
 					.collect(Collectors.toUnmodifiableList());
 	}
@@ -53,10 +61,8 @@ public class OrderItemServiceImpl implements OrderItemService {
 		return this.orderItemRepository.findById(null)
 				.map(OrderItemMappingHelper::map)
 				.map(o -> {
-					o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-					o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
+					o.setProductDto(this.productClient.findById(o.getProductDto().getProductId()));
+					o.setOrderDto(this.orderClient.findById(o.getOrderDto().getOrderId()));
 					return o;
 				})
 				.orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId)));
@@ -1,7 +1,10 @@
 package com.selimhorri.app.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.selimhorri.app.domain.User;
@@ -10,4 +13,7 @@ public interface UserRepository extends JpaRepository<User, Integer> {
 	
 	Optional<User> findByCredentialUsername(final String username);
 	
+	@EntityGraph(attributePaths = {"credential"})
+	List<User> findAllByUserIdIn(final Collection<Integer> userIds);
+	
 }
@@ -1,11 +1,18 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.selimhorri.app.domain.VerificationToken;
 
 public interface VerificationTokenRepository extends JpaRepository<VerificationToken, Integer> {
 	
+	@EntityGraph(attributePaths = {"credential"})
+	@Query("SELECT v FROM VerificationToken v")
+	List<VerificationToken> findAllWithCredential();
 	
 	
 }
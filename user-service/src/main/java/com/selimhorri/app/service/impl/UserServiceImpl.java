@@ -1,5 +1,6 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -42,6 +43,16 @@ public class UserServiceImpl implements UserService {
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("User with id: %d not found", userId)));
 	}
 	
+	@Override
+	public List<UserDto> findAllById(final Collection<Integer> userIds) {
+		log.info("*** UserDto List, service; fetch users by ids *");
+		return this.userRepository.findAllByUserIdIn(userIds)
+				.stream()
+					.map(UserMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public UserDto save(final UserDto userDto) {
 		log.info("*** UserDto, service; save user *");
@@ -27,7 +27,7 @@ public class VerificationTokenServiceImpl implements VerificationTokenService {
 	@Override
 	public List<VerificationTokenDto> findAll() {
 		log.info("*** VerificationTokenDto List, service; fetch all verificationTokens *");
-		return this.verificationTokenRepository.findAll()
+		return this.verificationTokenRepository.findAllWithCredential()
 				.stream()
 					.map(VerificationTokenMappingHelper::map)
 					.distinct()
@@ -8,6 +8,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -127,6 +128,22 @@ class UserServiceTest {
         verify(userRepository).findById(999);
     }
 
+    @Test
+    void findAllById_WithValidIds_ShouldReturnUsersInSingleQuery() {
+        // Arrange
+        when(userRepository.findAllByUserIdIn(Set.of(1, 999))).thenReturn(List.of(testUser));
+
+        // Act
+        List<UserDto> result = userService.findAllById(Set.of(1, 999));
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(testUserDto.getUserId(), result.get(0).getUserId());
+        assertEquals("testuser", result.get(0).getCredentialDto().getUsername());
+        verify(userRepository).findAllByUserIdIn(Set.of(1, 999));
+        verifyNoMoreInteractions(userRepository);
+    }
+
     @Test
     void save_ShouldReturnSavedUser() {
         // Arrange